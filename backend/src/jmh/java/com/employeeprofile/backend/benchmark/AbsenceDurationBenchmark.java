@@ -0,0 +1,50 @@
+package com.employeeprofile.backend.benchmark;
+
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.entity.AbsenceRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// getDurationInDays over a list of requests, as computed while serializing absence lists
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AbsenceDurationBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private List<AbsenceRequest> absenceRequests;
+    private List<AbsenceRequestSummary> absenceSummaries;
+
+    @Setup
+    public void setUp() {
+        absenceRequests = BenchmarkData.absenceRequests(BenchmarkData.employees(100, true), SIZE);
+        absenceSummaries = BenchmarkData.absenceSummaries(absenceRequests);
+    }
+
+    @Benchmark
+    public long entityDurations() {
+        long total = 0;
+        for (AbsenceRequest request : absenceRequests) {
+            total += request.getDurationInDays();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long summaryDurations() {
+        long total = 0;
+        for (AbsenceRequestSummary summary : absenceSummaries) {
+            total += summary.getDurationInDays();
+        }
+        return total;
+    }
+}
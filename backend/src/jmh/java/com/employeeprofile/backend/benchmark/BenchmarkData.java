@@ -0,0 +1,107 @@
+package com.employeeprofile.backend.benchmark;
+
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceType;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.EmployeeRole;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic fixtures shared by the benchmarks
+final class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {"Sarah", "Michael", "Emily", "James", "Lisa", "Anna", "Tom",
+            "Sophie", "Marcus", "Elena", "Jonas", "Mia", "Lukas", "Lea", "Felix", "Hannah"};
+    private static final String[] LAST_NAMES = {"Johnson", "Chen", "Rodriguez", "Wilson", "Anderson", "Mueller",
+            "Schmidt", "Weber", "Fischer", "Kowalski", "Wagner", "Becker", "Hoffmann", "Schulz"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Design", "Human Resources", "Sales", "Finance"};
+    private static final String FEEDBACK = "Great collaboration on the release, the handover notes were thorough "
+            + "and the team could pick up the remaining tickets without any questions.";
+
+    private BenchmarkData() {}
+
+    // Unsaved employees; ids are assigned so serialized output matches persisted rows
+    static List<Employee> employees(int count, boolean withIds) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Employee employee = new Employee(
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    "bench" + i + "@company.com",
+                    "BENCH" + i,
+                    "Engineer",
+                    DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            if (withIds) {
+                employee.setId((long) i);
+            }
+            employee.setHireDate(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(1500)));
+            employee.setSalary(new BigDecimal(50_000 + random.nextInt(50_000)));
+            employee.setRole(EmployeeRole.EMPLOYEE);
+            employee.setAddress("Alexanderplatz " + i + ", 10178 Berlin, Germany");
+            employee.setProfilePictureUrl("https://i.pravatar.cc/150?img=" + (i % 70));
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    static List<Feedback> feedbacks(List<Employee> employees, int count) {
+        Random random = new Random(7);
+        List<Feedback> feedbacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Feedback feedback = new Feedback(employees.get(random.nextInt(employees.size())), FEEDBACK,
+                    FeedbackType.values()[random.nextInt(FeedbackType.values().length)]);
+            feedback.setFeedbackGiver(employees.get(random.nextInt(employees.size())));
+            feedbacks.add(feedback);
+        }
+        return feedbacks;
+    }
+
+    static List<AbsenceRequest> absenceRequests(List<Employee> employees, int count) {
+        Random random = new Random(11);
+        List<AbsenceRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365));
+            requests.add(new AbsenceRequest(employees.get(random.nextInt(employees.size())),
+                    AbsenceType.values()[random.nextInt(AbsenceType.values().length)],
+                    start, start.plusDays(random.nextInt(14)), "Family trip"));
+        }
+        return requests;
+    }
+
+    static List<EmployeeSummary> employeeSummaries(List<Employee> employees) {
+        return employees.stream().map(EmployeeSummary::from).toList();
+    }
+
+    static List<FeedbackSummary> feedbackSummaries(List<Feedback> feedbacks) {
+        List<FeedbackSummary> summaries = new ArrayList<>(feedbacks.size());
+        long id = 1;
+        for (Feedback feedback : feedbacks) {
+            summaries.add(new FeedbackSummary(id++, EmployeeSummary.from(feedback.getEmployee()),
+                    EmployeeSummary.from(feedback.getFeedbackGiver()), feedback.getContent(),
+                    feedback.getFeedbackType(), feedback.getStatus(), false, null));
+        }
+        return summaries;
+    }
+
+    static List<AbsenceRequestSummary> absenceSummaries(List<AbsenceRequest> requests) {
+        List<AbsenceRequestSummary> summaries = new ArrayList<>(requests.size());
+        long id = 1;
+        for (AbsenceRequest request : requests) {
+            summaries.add(new AbsenceRequestSummary(id++, EmployeeSummary.from(request.getEmployee()),
+                    request.getAbsenceType(), request.getStartDate(), request.getEndDate(), request.getReason(),
+                    LocalDateTime.of(2025, 1, 1, 9, 0), request.getStatus(), 0L));
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,86 @@
+package com.employeeprofile.backend.benchmark;
+
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.Feedback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response body serialization of the list endpoints, entities (GET /api/employees)
+// and the summary DTOs the feedback and absence lists return
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> employees;
+    private List<EmployeeSummary> employeeSummaries;
+    private List<Feedback> feedbacks;
+    private List<FeedbackSummary> feedbackSummaries;
+    private List<AbsenceRequest> absenceRequests;
+    private List<AbsenceRequestSummary> absenceSummaries;
+
+    @Setup
+    public void setUp() {
+        // Same modules and date handling as the ObjectMapper Spring Boot configures
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        employees = BenchmarkData.employees(size, true);
+        employeeSummaries = BenchmarkData.employeeSummaries(employees);
+        feedbacks = BenchmarkData.feedbacks(employees, size);
+        feedbackSummaries = BenchmarkData.feedbackSummaries(feedbacks);
+        absenceRequests = BenchmarkData.absenceRequests(employees, size);
+        absenceSummaries = BenchmarkData.absenceSummaries(absenceRequests);
+    }
+
+    @Benchmark
+    public byte[] employees() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] employeeSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employeeSummaries);
+    }
+
+    @Benchmark
+    public byte[] feedbacks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feedbacks);
+    }
+
+    @Benchmark
+    public byte[] feedbackSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feedbackSummaries);
+    }
+
+    @Benchmark
+    public byte[] absenceRequests() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(absenceRequests);
+    }
+
+    @Benchmark
+    public byte[] absenceSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(absenceSummaries);
+    }
+}
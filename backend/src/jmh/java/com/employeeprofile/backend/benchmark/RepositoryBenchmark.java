@@ -0,0 +1,107 @@
+package com.employeeprofile.backend.benchmark;
+
+import com.employeeprofile.backend.EmployeeProfileBackendApplication;
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.repository.AbsenceRequestRepository;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// List and lookup queries against the embedded H2 database of the "test" profile
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int employeeCount;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private FeedbackRepository feedbackRepository;
+    private AbsenceRequestRepository absenceRequestRepository;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeProfileBackendApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=ERROR")
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        feedbackRepository = context.getBean(FeedbackRepository.class);
+        absenceRequestRepository = context.getBean(AbsenceRequestRepository.class);
+
+        // Five feedback entries and two absence requests per employee
+        employees = employeeRepository.saveAll(BenchmarkData.employees(employeeCount, false));
+        feedbackRepository.saveAll(BenchmarkData.feedbacks(employees, employeeCount * 5));
+        absenceRequestRepository.saveAll(BenchmarkData.absenceRequests(employees, employeeCount * 2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> employeePage() {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(randomEmployee().getId(), Limit.of(50));
+    }
+
+    @Benchmark
+    public Optional<Employee> employeeByEmployeeId() {
+        return employeeRepository.findByEmployeeId(randomEmployee().getEmployeeId());
+    }
+
+    @Benchmark
+    public List<EmployeeSummary> nameSearch() {
+        return employeeRepository.findByNameContaining("ann", Limit.of(20));
+    }
+
+    @Benchmark
+    public List<FeedbackSummary> feedbackForEmployee() {
+        return feedbackRepository.findSummariesByEmployeeId(randomEmployee().getId(), FeedbackStatus.LISTED);
+    }
+
+    @Benchmark
+    public List<FeedbackSummary> allFeedback() {
+        return feedbackRepository.findAllSummaries(FeedbackStatus.LISTED);
+    }
+
+    @Benchmark
+    public List<AbsenceRequestSummary> absencesForEmployee() {
+        return absenceRequestRepository.findSummariesByEmployeeId(randomEmployee().getId());
+    }
+
+    @Benchmark
+    public List<AbsenceRequestSummary> allAbsences() {
+        return absenceRequestRepository.findAllSummaries();
+    }
+
+    private Employee randomEmployee() {
+        return employees.get(ThreadLocalRandom.current().nextInt(employees.size()));
+    }
+}
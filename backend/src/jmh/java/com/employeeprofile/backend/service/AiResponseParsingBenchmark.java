@@ -0,0 +1,40 @@
+package com.employeeprofile.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Post-processing of an OpenRouter chat completion: JSON parsing and tag stripping
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AiResponseParsingBenchmark {
+
+    private static final String COMPLETION = "{\"id\":\"gen-1\",\"model\":\"mistralai/mistral-7b-instruct:free\","
+            + "\"choices\":[{\"index\":0,\"finish_reason\":\"stop\",\"message\":{\"role\":\"assistant\","
+            + "\"content\":\" <s>Lisa</s> consistently delivers <b>excellent</b> work and communicates "
+            + "clearly with the team. [INST] Keep it up! \"}}],"
+            + "\"usage\":{\"prompt_tokens\":42,\"completion_tokens\":31,\"total_tokens\":73}}";
+
+    private AiEnhancementService aiEnhancementService;
+
+    @Setup
+    public void setUp() {
+        aiEnhancementService = new AiEnhancementService();
+        ReflectionTestUtils.setField(aiEnhancementService, "objectMapper", new ObjectMapper());
+    }
+
+    @Benchmark
+    public String extractEnhancedText() throws IOException {
+        return aiEnhancementService.extractEnhancedText(COMPLETION);
+    }
+}
@@ -0,0 +1,108 @@
+package com.employeeprofile.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Back-pressure for /api requests. With platform threads Tomcat's thread pool bounds how
+// many requests run at once; with virtual threads nothing does, and a burst turns into a
+// long queue for database connections that ends in connection timeouts. This filter admits
+// at most web.max-concurrent-requests requests (0 = unlimited), lets others wait up to
+// web.max-concurrent-requests-wait, and answers the rest 503 with Retry-After.
+// Async requests (AI enhancement, streamed exports) keep their permit until the async work
+// has completed, timed out or failed, not just until the handler returned.
+@Component
+public class ApiConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final int limit;
+    private final long waitNanos;
+    private final Semaphore permits;
+    private final Counter rejected;
+
+    public ApiConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                     @Value("${web.max-concurrent-requests:0}") int limit,
+                                     @Value("${web.max-concurrent-requests-wait:2s}") Duration wait) {
+        this.limit = limit;
+        this.waitNanos = wait.toNanos();
+        this.permits = new Semaphore(Math.max(limit, 0), true);
+        this.rejected = Counter.builder("web.requests.rejected")
+                .description("API requests answered 503 because the concurrency limit was reached")
+                .register(meterRegistry);
+        Gauge.builder("web.requests.active", this, filter -> filter.limit - filter.permits.availablePermits())
+                .description("API requests currently admitted by the concurrency limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return limit <= 0 || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // The container completes async processing only after this dispatch has
+                // returned, so the listener cannot miss it; onComplete also follows a
+                // timeout or an error, so it releases the permit exactly once
+                request.getAsyncContext().addListener(new PermitRelease());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    private final class PermitRelease implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.employeeprofile.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// With spring.threads.virtual.enabled=true, Spring Boot runs Tomcat requests, the default
+// @Async executor and @Scheduled tasks on virtual threads; the AI executors below switch
+// too but keep their bounds, which limit upstream calls rather than threads.
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    public static final String AI_ENHANCEMENT_EXECUTOR = "aiEnhancementExecutor";
+    public static final String AI_BATCH_EXECUTOR = "aiBatchExecutor";
+    public static final String PROFILE_EXECUTOR = "profileExecutor";
+
+    // At most max-concurrency upstream calls in flight and queue-capacity waiting;
+    // anything beyond that is rejected immediately instead of pinning request threads
+    @Bean(name = AI_ENHANCEMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor aiEnhancementExecutor(@Value("${ai.enhancement.max-concurrency:4}") int maxConcurrency,
+                                                        @Value("${ai.enhancement.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-enhance-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Batch and backfill work: small fixed parallelism, callers wait in the queue
+    @Bean(name = AI_BATCH_EXECUTOR)
+    public ThreadPoolTaskExecutor aiBatchExecutor(@Value("${ai.enhancement.batch.parallelism:2}") int parallelism,
+                                                  @Value("${ai.enhancement.batch.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-batch-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+
+    // Profile page sections: short blocking database calls, one virtual thread each.
+    // The connection pool, not this executor, bounds how many run at once.
+    @Bean(name = PROFILE_EXECUTOR)
+    public SimpleAsyncTaskExecutor profileExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("profile-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
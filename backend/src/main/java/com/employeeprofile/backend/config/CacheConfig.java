@@ -0,0 +1,20 @@
+package com.employeeprofile.backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Cache sizes and TTLs are set with spring.cache.* in application.properties
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES_BY_ID = "employeesById";
+    public static final String EMPLOYEES_BY_EMPLOYEE_ID = "employeesByEmployeeId";
+
+    // Hibernate second-level cache regions (Caffeine JCache), sized in application.conf.
+    // Entities loaded by id or through an association (feedback.employee, ...) come from
+    // EMPLOYEE_REGION; cacheable employee queries keep their result ids in EMPLOYEE_QUERY_REGION
+    // and are invalidated by Hibernate whenever the employees table is written through it.
+    public static final String EMPLOYEE_REGION = "employees";
+    public static final String EMPLOYEE_QUERY_REGION = "employee-queries";
+}
@@ -6,12 +6,15 @@ import com.employeeprofile.backend.repository.EmployeeRepository;
 import com.employeeprofile.backend.repository.FeedbackRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+// Before SyntheticDataRunner: the demo data is only seeded into an empty database
 @Component
+@Order(1)
 public class DataInitializer implements CommandLineRunner {
 
     @Autowired
@@ -0,0 +1,64 @@
+package com.employeeprofile.backend.config;
+
+import com.employeeprofile.backend.dto.ImportResult;
+import com.employeeprofile.backend.service.EmployeeBulkService;
+import com.employeeprofile.backend.service.EmployeeBulkService.Format;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Command-line bulk import, e.g.
+//   java -jar backend.jar --employee.import.file=hris.csv --spring.main.web-application-type=none
+// Files ending in .ndjson or .jsonl are read as NDJSON, anything else as CSV.
+// The application exits when the import is done unless employee.import.exit=false.
+@Component
+@Order(0)
+@ConditionalOnProperty("employee.import.file")
+public class EmployeeImportRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportRunner.class);
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${employee.import.file}")
+    private Path file;
+
+    @Value("${employee.import.exit:true}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) throws Exception {
+        String name = file.getFileName().toString().toLowerCase();
+        Format format = name.endsWith(".ndjson") || name.endsWith(".jsonl") ? Format.NDJSON : Format.CSV;
+
+        ImportResult result;
+        try (InputStream input = Files.newInputStream(file)) {
+            result = employeeBulkService.importEmployees(input, format);
+        }
+        log.info("Imported {} of {} rows from {} ({} rows/s)", result.imported(), result.rowsRead(), file,
+                Math.round(result.rowsPerSecond()));
+        result.errors().forEach(error -> log.warn("Rejected {}", error));
+        if (result.rejected() > result.errors().size()) {
+            log.warn("... and {} more rejected rows", result.rejected() - result.errors().size());
+        }
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> result.rejected() == 0 ? 0 : 1));
+        }
+    }
+}
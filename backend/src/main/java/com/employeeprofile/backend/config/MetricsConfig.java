@@ -0,0 +1,21 @@
+package com.employeeprofile.backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Meters on top of what Actuator registers by itself (http.server.requests per endpoint,
+// spring.data.repository.invocations, hikaricp.*, hibernate.*, cache.*).
+// Histograms and SLO buckets are set with management.metrics.* in application.properties.
+@Configuration
+public class MetricsConfig {
+
+    // Timer for the @Timed service classes, tagged with class, method and exception
+    public static final String SERVICE_TIMER = "app.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,121 @@
+package com.employeeprofile.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Hibernate's ddl-auto=update cannot express extensions or expression/operator-class
+// indexes, so PostgreSQL-only schema objects are created here, idempotently, once the
+// tables exist. Each statement is applied on its own: a failure is logged and skipped.
+// Data migrations that must not be repeated run once, recorded in schema_migrations.
+// Runs before every other ApplicationReadyEvent listener, which may read what it creates.
+@Component
+public class PostgresSchemaInitializer {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresSchemaInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            // Trigram index for the employee name search
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_employees_full_name_trgm ON employees " +
+                    "USING gin (LOWER(first_name || ' ' || last_name) gin_trgm_ops)",
+            // Absence approval workflow: rows created before the version column existed
+            "UPDATE absence_requests SET version = 0 WHERE version IS NULL",
+            // Manager queue: only pending requests are indexed, so the index stays small as history grows
+            "CREATE INDEX IF NOT EXISTS idx_absence_requests_pending ON absence_requests (id) " +
+                    "WHERE status = 'PENDING'",
+            // Feedback moderation: rows created before the status column existed
+            "UPDATE feedback SET status = 'ACTIVE' WHERE status IS NULL",
+            // Feedback full-text search: a generated tsvector kept up to date by PostgreSQL itself
+            "ALTER TABLE feedback ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(content, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(ai_enhanced_content, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_feedback_search ON feedback USING gin (search_vector)",
+            // ETags: rows created before the version and updated_at columns existed
+            "UPDATE employees SET version = 0 WHERE version IS NULL",
+            "UPDATE employees SET updated_at = LOCALTIMESTAMP WHERE updated_at IS NULL",
+            "UPDATE feedback SET version = 0 WHERE version IS NULL",
+            "UPDATE feedback SET updated_at = LOCALTIMESTAMP WHERE updated_at IS NULL",
+            "UPDATE absence_requests SET updated_at = COALESCE(created_at, LOCALTIMESTAMP) WHERE updated_at IS NULL"
+    );
+
+    private static final String MIGRATIONS_TABLE = "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+            "name VARCHAR(100) PRIMARY KEY, applied_at TIMESTAMP NOT NULL DEFAULT LOCALTIMESTAMP)";
+
+    // Name -> statement, each applied in one transaction with its schema_migrations row
+    private static final Map<String, String> MIGRATIONS = new LinkedHashMap<>();
+
+    static {
+        // Absence approval workflow: requests created before the status column existed were
+        // never reviewed, so they are treated as approved, by date, rather than queued as PENDING
+        MIGRATIONS.put("absence-requests-status-backfill", "UPDATE absence_requests SET status = CASE " +
+                "WHEN end_date < CURRENT_DATE THEN 'COMPLETED' " +
+                "WHEN start_date <= CURRENT_DATE THEN 'IN_PROGRESS' " +
+                "ELSE 'APPROVED' END WHERE status IS NULL");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(ORDER)
+    public void initialize() {
+        if (!datasourceUrl.startsWith("jdbc:postgresql:")) {
+            return;
+        }
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Skipping schema statement [{}]: {}", statement, e.getMessage());
+            }
+        }
+        try {
+            jdbcTemplate.execute(MIGRATIONS_TABLE);
+        } catch (DataAccessException e) {
+            log.warn("Skipping data migrations: {}", e.getMessage());
+            return;
+        }
+        MIGRATIONS.forEach(this::migrate);
+    }
+
+    // The marker row is inserted first: a second instance starting at the same time blocks on
+    // it until this one commits and then finds nothing to do
+    private void migrate(String name, String statement) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                if (jdbcTemplate.update("INSERT INTO schema_migrations (name) VALUES (?) " +
+                        "ON CONFLICT (name) DO NOTHING", name) == 0) {
+                    return null;
+                }
+                return jdbcTemplate.update(statement);
+            });
+            if (updated != null) {
+                log.info("Applied data migration {}: {} rows", name, updated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Skipping data migration {}: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.employeeprofile.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Polls the replica's replication lag. The replica takes read-only transactions only while
+// the last check succeeded and the lag was within max-lag; otherwise they fall back to the
+// primary until a later check finds it caught up. Unknown (before the first check, or when
+// the replica cannot be reached) counts as unavailable.
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Seconds since the last replayed transaction, or 0 when the replica has replayed all
+    // WAL it received (an idle primary would otherwise look like growing lag). A server that
+    // is not in recovery is its own primary and never lags.
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.replica.setQueryTimeout(5);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica at the last check (NaN when unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean wasAvailable = available;
+        try {
+            Number lag = replica.queryForObject(lagQuery, Number.class);
+            lagSeconds = lag != null ? lag.doubleValue() : 0;
+            available = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+            if (wasAvailable) {
+                log.warn("Read replica check failed, reads go to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasAvailable && !available) {
+            log.warn("Read replica lags {}s (max {}s), reads go to the primary", lagSeconds, maxLag.toSeconds());
+        } else if (!wasAvailable && available) {
+            log.info("Read replica available (lag {}s)", lagSeconds);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.employeeprofile.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Hands out replica connections to read-only transactions while the replica keeps up, and
+// primary connections to everything else (read-write transactions, JdbcTemplate calls
+// outside a transaction, reads while the replica lags).
+// The read-only flag is only known once the transaction is set up, so this must sit behind
+// a LazyConnectionDataSourceProxy that defers getConnection() to the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.primaryConnections = Counter.builder("datasource.routing")
+                .description("Connections handed out, by route")
+                .tag("route", "primary")
+                .register(meterRegistry);
+        this.replicaConnections = Counter.builder("datasource.routing")
+                .description("Connections handed out, by route")
+                .tag("route", "replica")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("datasource.routing.fallbacks")
+                .description("Read-only transactions sent to the primary because the replica lagged or was down")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (lagMonitor.isAvailable()) {
+                replicaConnections.increment();
+                return Route.REPLICA;
+            }
+            fallbacks.increment();
+        }
+        primaryConnections.increment();
+        return Route.PRIMARY;
+    }
+}
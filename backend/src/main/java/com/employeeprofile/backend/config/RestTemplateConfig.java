@@ -1,14 +1,89 @@
 package com.employeeprofile.backend.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+// Outbound HTTP uses a pooled client: connections are kept alive and reused between calls
+// instead of paying a TCP (and TLS) handshake per request.
 @Configuration
 public class RestTemplateConfig {
 
+    @Value("${openrouter.api.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${openrouter.api.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${openrouter.api.pool-size:20}")
+    private int poolSize;
+
+    // Longest a pooled connection may sit idle before it is closed
+    @Value("${openrouter.api.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${openrouter.api.http2:false}")
+    private boolean http2;
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+        return builder
+                .requestFactory(() -> http2 ? http2RequestFactory() : pooledRequestFactory())
+                .build();
+    }
+
+    // Apache HttpClient 5 with a bounded HTTP/1.1 connection pool
+    private ClientHttpRequestFactory pooledRequestFactory() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .build();
+        // All outbound calls go to one host, so a route may use the whole pool
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(poolSize)
+                .setMaxConnPerRoute(poolSize)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        var httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                // Honours a shorter Keep-Alive timeout announced by the server, so a connection
+                // it already closed is not reused; the eviction thread drops the rest when idle
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue announced = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    TimeValue limit = TimeValue.of(keepAlive);
+                    return TimeValue.isNonNegative(announced) && announced.compareTo(limit) < 0 ? announced : limit;
+                })
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    // JDK HttpClient negotiating HTTP/2, which multiplexes concurrent calls over one connection
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                // Also streams request bodies; without it Spring starts a new thread per request
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
     }
 }
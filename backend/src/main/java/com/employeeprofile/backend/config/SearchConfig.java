@@ -0,0 +1,53 @@
+package com.employeeprofile.backend.config;
+
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import com.employeeprofile.backend.search.FeedbackTextSearch;
+import com.employeeprofile.backend.search.InMemoryEmployeeNameSearch;
+import com.employeeprofile.backend.search.InMemoryFeedbackTextSearch;
+import com.employeeprofile.backend.search.PostgresEmployeeNameSearch;
+import com.employeeprofile.backend.search.PostgresFeedbackTextSearch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+public class SearchConfig {
+
+    // employee.search.mode: auto (by datasource URL), postgres or memory
+    @Bean
+    public EmployeeNameSearch employeeNameSearch(@Value("${employee.search.mode:auto}") String mode,
+                                                 @Value("${spring.datasource.url:}") String datasourceUrl,
+                                                 EmployeeRepository employeeRepository,
+                                                 JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager) {
+        if (usePostgres(mode, datasourceUrl)) {
+            return new PostgresEmployeeNameSearch(employeeRepository, jdbcTemplate);
+        }
+        return new InMemoryEmployeeNameSearch(employeeRepository, transactionManager);
+    }
+
+    // feedback.search.mode: auto (by datasource URL), postgres or memory
+    @Bean
+    public FeedbackTextSearch feedbackTextSearch(@Value("${feedback.search.mode:auto}") String mode,
+                                                 @Value("${spring.datasource.url:}") String datasourceUrl,
+                                                 FeedbackRepository feedbackRepository,
+                                                 JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager) {
+        if (usePostgres(mode, datasourceUrl)) {
+            return new PostgresFeedbackTextSearch(feedbackRepository, jdbcTemplate);
+        }
+        return new InMemoryFeedbackTextSearch(feedbackRepository, transactionManager);
+    }
+
+    private static boolean usePostgres(String mode, String datasourceUrl) {
+        return switch (mode) {
+            case "postgres" -> true;
+            case "memory" -> false;
+            default -> datasourceUrl.startsWith("jdbc:postgresql:");
+        };
+    }
+}
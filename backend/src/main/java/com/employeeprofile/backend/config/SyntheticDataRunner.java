@@ -0,0 +1,53 @@
+package com.employeeprofile.backend.config;
+
+import com.employeeprofile.backend.dto.SyntheticDataSpec;
+import com.employeeprofile.backend.service.SyntheticDataService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// Loads a synthetic dataset for load tests at startup, e.g.
+//   java -jar backend.jar --synthetic-data.employees=50000 --synthetic-data.feedback=500000 \
+//       --synthetic-data.absences=200000 --synthetic-data.seed=42
+// Runs after DataInitializer, so the demo data is still there. Nothing is written when
+// synthetic employees already exist. With synthetic-data.exit=true the application exits
+// once the data is loaded (to prepare a database for a later run).
+@Component
+@Order(2)
+@ConditionalOnProperty("synthetic-data.employees")
+public class SyntheticDataRunner implements CommandLineRunner {
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${synthetic-data.employees}")
+    private int employees;
+
+    @Value("${synthetic-data.feedback:0}")
+    private int feedback;
+
+    @Value("${synthetic-data.absences:0}")
+    private int absences;
+
+    @Value("${synthetic-data.seed:42}")
+    private long seed;
+
+    @Value("${synthetic-data.exit:false}")
+    private boolean exitWhenDone;
+
+    @Override
+    public void run(String... args) throws Exception {
+        syntheticDataService.generate(new SyntheticDataSpec(employees, feedback, absences, seed));
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeeprofile.backend.controller;
+
+import com.employeeprofile.backend.dto.AbsenceTypeTotal;
+import com.employeeprofile.backend.dto.DepartmentAbsenceTotal;
+import com.employeeprofile.backend.entity.AbsenceAggregate;
+import com.employeeprofile.backend.service.AbsenceAggregateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/absence-aggregates")
+@CrossOrigin(origins = "http://localhost:4200")
+public class AbsenceAggregateController {
+
+    @Autowired
+    private AbsenceAggregateService absenceAggregateService;
+
+    // Monthly absence days of one employee by type
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<List<AbsenceAggregate>> getEmployeeAggregates(@PathVariable Long employeeId,
+                                                                        @RequestParam int year) {
+        try {
+            return ResponseEntity.ok(absenceAggregateService.getEmployeeAggregates(employeeId, year));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Absence days per department and type for a year, or one month of it
+    @GetMapping("/departments")
+    public ResponseEntity<List<DepartmentAbsenceTotal>> getDepartmentTotals(@RequestParam int year,
+                                                                            @RequestParam(required = false) Integer month) {
+        try {
+            return ResponseEntity.ok(absenceAggregateService.getDepartmentTotals(year, month));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Absence days per type, company-wide or for one department
+    @GetMapping("/types")
+    public ResponseEntity<List<AbsenceTypeTotal>> getTypeTotals(@RequestParam int year,
+                                                                @RequestParam(required = false) Integer month,
+                                                                @RequestParam(required = false) String department) {
+        try {
+            return ResponseEntity.ok(absenceAggregateService.getTypeTotals(year, month, department));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Recompute all aggregates from the absence requests
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        try {
+            return ResponseEntity.ok(Map.of("aggregates", absenceAggregateService.rebuild()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
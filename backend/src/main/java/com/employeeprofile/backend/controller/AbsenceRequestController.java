@@ -1,15 +1,29 @@
 package com.employeeprofile.backend.controller;
 
+import com.employeeprofile.backend.dto.AbsenceCalendar;
+import com.employeeprofile.backend.dto.AbsenceQueuePage;
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.AbsenceReview;
+import com.employeeprofile.backend.dto.AbsenceStatusChange;
 import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceStatus;
+import com.employeeprofile.backend.entity.AbsenceType;
 import com.employeeprofile.backend.entity.Employee;
 import com.employeeprofile.backend.service.AbsenceRequestService;
 import com.employeeprofile.backend.service.EmployeeService;
+import com.employeeprofile.backend.service.ResourceVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,12 +38,40 @@ public class AbsenceRequestController {
     @Autowired
     private EmployeeService employeeService;
 
-    // Get all absence requests
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    // Get all absence requests. Conditional: If-None-Match with the current ETag is
+    // answered 304 without loading the list (the same holds for the per-employee list).
+    // One read-only transaction covers the ETag and the list, so both read the same database
     @GetMapping
-    public ResponseEntity<List<AbsenceRequest>> getAllAbsenceRequests() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<AbsenceRequestSummary>> getAllAbsenceRequests(WebRequest request) {
+        try {
+            String eTag = resourceVersionService.absenceRequests();
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
+            List<AbsenceRequestSummary> requests = absenceRequestService.getAllAbsenceRequestSummaries();
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(requests);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Who is out between from and to (inclusive, at most a year), optionally for one
+    // department and absence type, with the number of absent employees per day
+    @GetMapping("/calendar")
+    public ResponseEntity<AbsenceCalendar> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                       @RequestParam(required = false) String department,
+                                                       @RequestParam(required = false) AbsenceType type) {
         try {
-            List<AbsenceRequest> requests = absenceRequestService.getAllAbsenceRequests();
-            return ResponseEntity.ok(requests);
+            AbsenceCalendar calendar = absenceRequestService.getCalendar(from, to, department, type);
+            return ResponseEntity.ok(calendar);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -50,14 +92,72 @@ public class AbsenceRequestController {
 
     // Get absence requests for an employee
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<AbsenceRequest>> getAbsenceRequestsForEmployee(@PathVariable Long employeeId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<AbsenceRequestSummary>> getAbsenceRequestsForEmployee(@PathVariable Long employeeId,
+                                                                                     WebRequest request) {
         try {
             Optional<Employee> employee = employeeService.getEmployeeById(employeeId);
             if (employee.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            List<AbsenceRequest> requests = absenceRequestService.getAbsenceRequestsForEmployee(employee.orElseThrow());
-            return ResponseEntity.ok(requests);
+            String eTag = resourceVersionService.absenceRequestsForEmployee(employeeId);
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
+            List<AbsenceRequestSummary> requests = absenceRequestService.getAbsenceRequestSummariesForEmployee(employeeId);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(requests);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Manager approval queue: pending requests, oldest first
+    @GetMapping("/queue")
+    public ResponseEntity<AbsenceQueuePage> getApprovalQueue(@RequestParam(required = false) String department,
+                                                             @RequestParam(required = false) Long after,
+                                                             @RequestParam(defaultValue = "" + AbsenceRequestService.DEFAULT_QUEUE_PAGE_SIZE) int limit) {
+        try {
+            return ResponseEntity.ok(absenceRequestService.getApprovalQueue(department, after, limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Batch approve; 409 when any request was changed or reviewed concurrently
+    @PostMapping("/approve")
+    public ResponseEntity<List<AbsenceStatusChange>> approveAbsenceRequests(@RequestBody AbsenceReview review) {
+        return reviewAbsenceRequests(review, AbsenceStatus.APPROVED);
+    }
+
+    // Batch reject; 409 when any request was changed or reviewed concurrently
+    @PostMapping("/reject")
+    public ResponseEntity<List<AbsenceStatusChange>> rejectAbsenceRequests(@RequestBody AbsenceReview review) {
+        return reviewAbsenceRequests(review, AbsenceStatus.REJECTED);
+    }
+
+    // Cancel a pending or approved request
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<AbsenceStatusChange> cancelAbsenceRequest(@PathVariable Long id,
+                                                                    @RequestParam(required = false) Long version) {
+        try {
+            return ResponseEntity.ok(absenceRequestService.cancel(id, version));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity<List<AbsenceStatusChange>> reviewAbsenceRequests(AbsenceReview review, AbsenceStatus decision) {
+        try {
+            return ResponseEntity.ok(absenceRequestService.review(review, decision));
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -1,13 +1,32 @@
 package com.employeeprofile.backend.controller;
 
+import com.employeeprofile.backend.dto.EmployeePage;
+import com.employeeprofile.backend.dto.EmployeeProfile;
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.dto.ImportResult;
 import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.service.EmployeeBulkService;
+import com.employeeprofile.backend.service.EmployeeBulkService.Format;
+import com.employeeprofile.backend.service.EmployeeProfileService;
+import com.employeeprofile.backend.service.ResourceVersionService;
 import com.employeeprofile.backend.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,39 +35,169 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:4200")
 public class EmployeeController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
     @Autowired
     private EmployeeService employeeService;
 
-    // Get all employees
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeProfileService employeeProfileService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Get all employees (full records: the Angular directory cards and edit dialog use them)
+    // Conditional: If-None-Match with the current ETag is answered 304 without loading the list.
+    // ETag and list are read in one read-only transaction, so from the same database: with a
+    // read replica, an ETag from the primary must never label a list the replica has not caught up to
     @GetMapping
-    public ResponseEntity<List<Employee>> getAllEmployees() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Employee>> getAllEmployees(WebRequest request) {
         try {
+            String eTag = resourceVersionService.employees();
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
             List<Employee> employees = employeeService.getAllEmployees();
-            return ResponseEntity.ok(employees);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(employees);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Get the employees of one department (same ETag as the full list)
+    @GetMapping(params = "department")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Employee>> getEmployeesByDepartment(@RequestParam String department,
+                                                                   WebRequest request) {
+        try {
+            String eTag = resourceVersionService.employees();
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+            List<Employee> employees = employeeService.getEmployeesByDepartment(department);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(employees);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Get a page of employees (keyset pagination on id)
+    @GetMapping(params = "limit")
+    public ResponseEntity<EmployeePage> getEmployeesPage(@RequestParam int limit,
+                                                         @RequestParam(required = false) Long after) {
+        try {
+            EmployeePage page = employeeService.getEmployeesPage(after, limit);
+            return ResponseEntity.ok(page);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Stream all employees as newline-delimited JSON, one row at a time
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamEmployees() {
+        StreamingResponseBody body = outputStream -> employeeService.streamAllEmployees(employee -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    // Bulk import from a CSV (with header row) or NDJSON request body; invalid rows are
+    // skipped and reported, valid rows are inserted in batches
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                        InputStream body) {
+        try {
+            Format format = TEXT_CSV.isCompatibleWith(contentType) ? Format.CSV : Format.NDJSON;
+            return ResponseEntity.ok(employeeBulkService.importEmployees(body, format));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // Full employee records as CSV or NDJSON, in the format the import accepts
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "csv") String format) {
+        Format exportFormat;
+        try {
+            exportFormat = Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = outputStream -> employeeBulkService.exportEmployees(outputStream, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(exportFormat == Format.CSV ? TEXT_CSV : APPLICATION_NDJSON,
+                        StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
     // Get employee by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable Long id, WebRequest request) {
         try {
             Optional<Employee> employee = employeeService.getEmployeeById(id);
-            return employee.map(ResponseEntity::ok)
+            if (employee.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return conditionalEmployee(employee.get(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Everything the profile page needs in one round trip: the employee, the latest
+    // feedback received and given, and the latest absence requests (each at most limit)
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<EmployeeProfile> getEmployeeProfile(@PathVariable Long id,
+                                                              @RequestParam(defaultValue = "" + EmployeeProfileService.DEFAULT_SECTION_LIMIT) int limit) {
+        try {
+            Optional<EmployeeProfile> profile = employeeProfileService.getProfile(id, limit);
+            return profile.map(ResponseEntity::ok)
                           .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // Get employee by business employee ID (e.g. EMP001)
+    @GetMapping("/by-employee-id/{employeeId}")
+    public ResponseEntity<Employee> getEmployeeByEmployeeId(@PathVariable String employeeId, WebRequest request) {
+        try {
+            Optional<Employee> employee = employeeService.getEmployeeByEmployeeId(employeeId);
+            if (employee.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return conditionalEmployee(employee.get(), request);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     // Update employee
     @PutMapping("/{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable Long id, 
                                                   @Valid @RequestBody Employee employee) {
         try {
             Employee updatedEmployee = employeeService.updateEmployee(id, employee);
-            return ResponseEntity.ok(updatedEmployee);
+            return ResponseEntity.ok()
+                    .eTag(ResourceVersionService.of("employee", updatedEmployee.getId(), updatedEmployee.getVersion()))
+                    .body(updatedEmployee);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         } catch (Exception e) {
@@ -58,12 +207,22 @@ public class EmployeeController {
 
     // Search employees by name
     @GetMapping("/search")
-    public ResponseEntity<List<Employee>> searchByName(@RequestParam String name) {
+    public ResponseEntity<List<EmployeeSummary>> searchByName(@RequestParam String name,
+                                                              @RequestParam(defaultValue = "" + EmployeeService.DEFAULT_SEARCH_LIMIT) int limit) {
         try {
-            List<Employee> employees = employeeService.searchByName(name);
+            List<EmployeeSummary> employees = employeeService.searchByName(name, limit);
             return ResponseEntity.ok(employees);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // Strong ETag from the row version; null (304 already written) when the client has it
+    private ResponseEntity<Employee> conditionalEmployee(Employee employee, WebRequest request) {
+        String eTag = ResourceVersionService.of("employee", employee.getId(), employee.getVersion());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(employee);
+    }
 }
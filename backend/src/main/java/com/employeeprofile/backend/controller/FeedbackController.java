@@ -1,17 +1,35 @@
 package com.employeeprofile.backend.controller;
 
+import com.employeeprofile.backend.dto.BackfillStatus;
+import com.employeeprofile.backend.dto.BatchEnhancementResult;
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackModeration;
+import com.employeeprofile.backend.dto.FeedbackPage;
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.dto.FeedbackSummary;
 import com.employeeprofile.backend.entity.Employee;
 import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.entity.FeedbackType;
+import com.employeeprofile.backend.service.AiEnhancementBatchService;
 import com.employeeprofile.backend.service.EmployeeService;
 import com.employeeprofile.backend.service.FeedbackService;
+import com.employeeprofile.backend.service.ResourceVersionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/feedback")
@@ -24,12 +42,44 @@ public class FeedbackController {
     @Autowired
     private EmployeeService employeeService;
 
-    // Get all feedback
+    @Autowired
+    private AiEnhancementBatchService aiEnhancementBatchService;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    // Get all feedback. Conditional: If-None-Match with the current ETag is answered 304
+    // without loading the list (the same holds for the per-employee lists below). The ETag
+    // is computed in the list's read-only transaction, so both see the same database
     @GetMapping
-    public ResponseEntity<List<Feedback>> getAllFeedback() {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FeedbackSummary>> getAllFeedback(WebRequest request) {
         try {
-            List<Feedback> feedback = feedbackService.getAllFeedback();
-            return ResponseEntity.ok(feedback);
+            String eTag = resourceVersionService.feedback();
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
+            List<FeedbackSummary> feedback = feedbackService.getAllFeedbackSummaries();
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(feedback);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Get a page of the feedback feed, newest first (keyset pagination on id),
+    // optionally filtered by receiver, giver, type and AI enhancement
+    @GetMapping(params = "limit")
+    public ResponseEntity<FeedbackPage> getFeedbackFeed(@RequestParam int limit,
+                                                        @RequestParam(required = false) Long before,
+                                                        @RequestParam(required = false) Long employeeId,
+                                                        @RequestParam(required = false) Long feedbackGiverId,
+                                                        @RequestParam(required = false) FeedbackType feedbackType,
+                                                        @RequestParam(required = false) Boolean aiEnhanced) {
+        try {
+            FeedbackFeedFilter filter = new FeedbackFeedFilter(employeeId, feedbackGiverId, feedbackType, aiEnhanced);
+            FeedbackPage page = feedbackService.getFeedbackFeed(filter, before, limit);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -50,14 +100,21 @@ public class FeedbackController {
 
     // Get feedback for an employee
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<Feedback>> getAllFeedbackForEmployee(@PathVariable Long employeeId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FeedbackSummary>> getAllFeedbackForEmployee(@PathVariable Long employeeId,
+                                                                           WebRequest request) {
         try {
             Optional<Employee> employee = employeeService.getEmployeeById(employeeId);
             if (employee.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            List<Feedback> feedback = feedbackService.getAllFeedbackForEmployee(employee.get());
-            return ResponseEntity.ok(feedback);
+            String eTag = resourceVersionService.feedbackForEmployee(employeeId);
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
+            List<FeedbackSummary> feedback = feedbackService.getFeedbackSummariesForEmployee(employeeId);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(feedback);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -65,30 +122,121 @@ public class FeedbackController {
 
     // Get feedback given by an employee
     @GetMapping("/given-by/{employeeId}")
-    public ResponseEntity<List<Feedback>> getFeedbackGivenBy(@PathVariable Long employeeId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<FeedbackSummary>> getFeedbackGivenBy(@PathVariable Long employeeId,
+                                                                    WebRequest request) {
         try {
             Optional<Employee> employee = employeeService.getEmployeeById(employeeId);
             if (employee.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
-            List<Feedback> feedback = feedbackService.getFeedbackGivenBy(employee.get());
-            return ResponseEntity.ok(feedback);
+            String eTag = resourceVersionService.feedbackGivenBy(employeeId);
+            if (request.checkNotModified(eTag)) {
+                // 304 with the ETag has already been written
+                return null;
+            }
+            List<FeedbackSummary> feedback = feedbackService.getFeedbackSummariesGivenBy(employeeId);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(feedback);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    // AI Enhancement endpoint
-    @PostMapping("/enhance")
-    public ResponseEntity<String> enhanceFeedbackText(@RequestBody String originalText) {
+    // Full-text search over content and AI-enhanced content: ranked, highlighted, paged
+    @GetMapping("/search")
+    public ResponseEntity<FeedbackSearchPage> searchFeedback(@RequestParam String query,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "" + FeedbackService.DEFAULT_SEARCH_PAGE_SIZE) int size) {
+        try {
+            return ResponseEntity.ok(feedbackService.searchFeedback(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Moderation queue: all feedback in one status, e.g. FLAGGED or HIDDEN
+    @GetMapping("/moderation")
+    public ResponseEntity<List<FeedbackSummary>> getFeedbackByStatus(@RequestParam FeedbackStatus status) {
+        try {
+            return ResponseEntity.ok(feedbackService.getFeedbackSummariesByStatus(status));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Bulk moderation: moves up to 500 feedback to one status (flag, hide, archive, restore)
+    @PostMapping("/moderation")
+    public ResponseEntity<FeedbackModeration.Result> moderateFeedback(@RequestBody FeedbackModeration moderation) {
         try {
-            String enhancedText = feedbackService.enhanceFeedbackWithAI(originalText);
-            return ResponseEntity.ok(enhancedText);
+            return ResponseEntity.ok(feedbackService.moderate(moderation));
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body("Failed to enhance text: " + e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Internal server error occurred");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // AI Enhancement endpoint. Runs off the request thread; answers 503 when the
+    // bounded AI executor is saturated instead of queueing without limit.
+    @PostMapping("/enhance")
+    public CompletableFuture<ResponseEntity<String>> enhanceFeedbackText(@RequestBody String originalText) {
+        try {
+            return feedbackService.enhanceFeedbackWithAIAsync(originalText)
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        return ResponseEntity.badRequest().body("Failed to enhance text: " + cause.getMessage());
+                    });
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .body("AI enhancement is busy, please try again shortly"));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Internal server error occurred"));
+        }
+    }
+
+    // Batch AI enhancement: up to 50 texts, enhanced with bounded parallelism
+    @PostMapping("/enhance/batch")
+    public CompletableFuture<ResponseEntity<List<BatchEnhancementResult>>> enhanceFeedbackTexts(@RequestBody List<String> originalTexts) {
+        try {
+            return aiEnhancementBatchService.enhanceAll(originalTexts).thenApply(ResponseEntity::ok);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+        }
+    }
+
+    // Start the background job that enhances all feedback not yet AI-enhanced
+    @PostMapping("/enhance/backfill")
+    public ResponseEntity<BackfillStatus> startBackfill() {
+        try {
+            BackfillStatus status = aiEnhancementBatchService.startBackfill();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(aiEnhancementBatchService.getBackfillStatus());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Progress and throughput of the backfill job
+    @GetMapping("/enhance/backfill")
+    public ResponseEntity<BackfillStatus> getBackfillStatus() {
+        return ResponseEntity.ok(aiEnhancementBatchService.getBackfillStatus());
+    }
+
+    // Stop the backfill after the chunk in progress
+    @DeleteMapping("/enhance/backfill")
+    public ResponseEntity<BackfillStatus> cancelBackfill() {
+        return ResponseEntity.ok(aiEnhancementBatchService.cancelBackfill());
+    }
 }
@@ -0,0 +1,15 @@
+package com.employeeprofile.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Absences overlapping [from, to] plus per-day occupancy. Each absence is listed once;
+// days refer to it by its index in "absences", so long absences do not repeat per day.
+public record AbsenceCalendar(LocalDate from,
+                              LocalDate to,
+                              List<AbsenceCalendarEntry> absences,
+                              List<Day> days) {
+
+    public record Day(LocalDate date, int absent, List<Integer> absences) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.AbsenceType;
+
+import java.time.LocalDate;
+
+// One absence in a calendar response, with just enough of the employee to label it
+public record AbsenceCalendarEntry(Long id,
+                                   Long employeeId,
+                                   String employeeName,
+                                   String department,
+                                   AbsenceType absenceType,
+                                   LocalDate startDate,
+                                   LocalDate endDate) {
+
+    // Constructor for the JPQL constructor expression (see AbsenceRequestRepository)
+    public AbsenceCalendarEntry(Long id, Long employeeId, String firstName, String lastName, String department,
+                                AbsenceType absenceType, LocalDate startDate, LocalDate endDate) {
+        this(id, employeeId, firstName + " " + lastName, department, absenceType, startDate, endDate);
+    }
+}
@@ -0,0 +1,38 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.AbsenceStatus;
+import com.employeeprofile.backend.entity.AbsenceType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// Absence list row with the requesting employee reduced to a summary
+public record AbsenceRequestSummary(Long id,
+                                    EmployeeSummary employee,
+                                    AbsenceType absenceType,
+                                    LocalDate startDate,
+                                    LocalDate endDate,
+                                    String reason,
+                                    LocalDateTime createdAt,
+                                    AbsenceStatus status,
+                                    Long version) {
+
+    // Flat constructor for JPQL constructor expressions (see AbsenceRequestRepository)
+    public AbsenceRequestSummary(Long id, AbsenceType absenceType, LocalDate startDate, LocalDate endDate,
+                                 String reason, LocalDateTime createdAt, AbsenceStatus status, Long version,
+                                 Long employeeId, String employeeCode, String firstName, String lastName,
+                                 String position, String department, String profilePictureUrl) {
+        this(id,
+             new EmployeeSummary(employeeId, employeeCode, firstName, lastName, position, department,
+                     profilePictureUrl),
+             absenceType, startDate, endDate, reason, createdAt, status, version);
+    }
+
+    public long getDurationInDays() {
+        if (startDate != null && endDate != null) {
+            return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        }
+        return 0;
+    }
+}
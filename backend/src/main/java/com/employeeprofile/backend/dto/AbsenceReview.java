@@ -0,0 +1,11 @@
+package com.employeeprofile.backend.dto;
+
+import java.util.List;
+
+// Batch approve/reject request. Each item carries the version the manager saw;
+// a request changed since then is reported as a conflict. A null version skips the check.
+public record AbsenceReview(Long reviewerId, List<Item> items) {
+
+    public record Item(Long id, Long version) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.AbsenceStatus;
+
+// New status and version of a request after a workflow transition
+public record AbsenceStatusChange(Long id, AbsenceStatus status, Long version) {
+}
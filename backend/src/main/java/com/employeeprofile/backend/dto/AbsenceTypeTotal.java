@@ -0,0 +1,7 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.AbsenceType;
+
+// Absence days and requests for one absence type
+public record AbsenceTypeTotal(AbsenceType absenceType, long days, long requests) {
+}
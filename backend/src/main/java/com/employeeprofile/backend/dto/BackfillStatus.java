@@ -0,0 +1,23 @@
+package com.employeeprofile.backend.dto;
+
+import java.time.LocalDateTime;
+
+// Progress of the AI enhancement backfill job
+public record BackfillStatus(State state,
+                             long pendingAtStart,
+                             long processed,
+                             long succeeded,
+                             long failed,
+                             double rowsPerSecond,
+                             LocalDateTime startedAt,
+                             LocalDateTime finishedAt) {
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        CANCELLING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
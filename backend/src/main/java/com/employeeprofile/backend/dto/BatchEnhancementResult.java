@@ -0,0 +1,5 @@
+package com.employeeprofile.backend.dto;
+
+// Outcome for one text of a batch enhancement: either enhancedText or error is set
+public record BatchEnhancementResult(String originalText, String enhancedText, String error) {
+}
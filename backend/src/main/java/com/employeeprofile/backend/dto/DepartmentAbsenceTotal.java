@@ -0,0 +1,7 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.AbsenceType;
+
+// Absence days and requests of a department for one absence type
+public record DepartmentAbsenceTotal(String department, AbsenceType absenceType, long days, long requests) {
+}
@@ -0,0 +1,8 @@
+package com.employeeprofile.backend.dto;
+
+import java.util.List;
+
+// One page of the employee directory. nextCursor is the id to pass as "after"
+// for the following page, or null when this is the last page.
+public record EmployeePage(List<EmployeeSummary> items, Long nextCursor) {
+}
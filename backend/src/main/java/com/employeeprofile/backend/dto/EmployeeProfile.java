@@ -0,0 +1,16 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.Employee;
+
+import java.util.List;
+
+// Everything the employee profile page shows, each section capped at the requested
+// limit. The feedback sections continue through the feed (/api/feedback?limit=...
+// &employeeId= or &feedbackGiverId=, before=nextCursor); moreAbsenceRequests says
+// whether /api/absence-requests/employee/{id} has older requests.
+public record EmployeeProfile(Employee employee,
+                              FeedbackPage feedbackReceived,
+                              FeedbackPage feedbackGiven,
+                              List<AbsenceRequestSummary> absenceRequests,
+                              boolean moreAbsenceRequests) {
+}
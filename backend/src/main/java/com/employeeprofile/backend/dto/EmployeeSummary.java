@@ -0,0 +1,23 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.Employee;
+
+// The few employee columns list views need: who it is and how to show them
+public record EmployeeSummary(Long id,
+                              String employeeId,
+                              String firstName,
+                              String lastName,
+                              String position,
+                              String department,
+                              String profilePictureUrl) {
+
+    public static EmployeeSummary from(Employee employee) {
+        return new EmployeeSummary(employee.getId(), employee.getEmployeeId(), employee.getFirstName(),
+                employee.getLastName(), employee.getPosition(), employee.getDepartment(),
+                employee.getProfilePictureUrl());
+    }
+
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,7 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.FeedbackStatus;
+
+// The searchable text of one feedback (in-memory full-text index rebuild)
+public record FeedbackDocument(Long id, String content, String aiEnhancedContent, FeedbackStatus status) {
+}
@@ -0,0 +1,12 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.FeedbackType;
+
+// Optional filters of the feedback feed; null means "any"
+public record FeedbackFeedFilter(Long employeeId,
+                                 Long feedbackGiverId,
+                                 FeedbackType feedbackType,
+                                 Boolean aiEnhanced) {
+
+    public static final FeedbackFeedFilter NONE = new FeedbackFeedFilter(null, null, null, null);
+}
@@ -0,0 +1,14 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.FeedbackStatus;
+
+import java.util.List;
+
+// Bulk moderation request: move the given feedback to one status
+public record FeedbackModeration(List<Long> ids, FeedbackStatus status) {
+
+    // requested: distinct ids sent; updated: feedback that actually changed status
+    // (unknown ids and feedback already in the target status are not counted)
+    public record Result(FeedbackStatus status, int requested, int updated) {
+    }
+}
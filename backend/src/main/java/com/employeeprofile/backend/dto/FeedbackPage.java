@@ -0,0 +1,8 @@
+package com.employeeprofile.backend.dto;
+
+import java.util.List;
+
+// One page of the feedback feed, newest first. nextCursor is the id to pass as
+// "before" for the following page, or null when this is the last page.
+public record FeedbackPage(List<FeedbackSummary> items, Long nextCursor) {
+}
@@ -0,0 +1,10 @@
+package com.employeeprofile.backend.dto;
+
+// One full-text search result. The highlights are HTML-escaped excerpts with the
+// matching words wrapped in <mark>; aiEnhancedContentHighlight is null when the
+// feedback has no AI-enhanced content.
+public record FeedbackSearchHit(FeedbackSummary feedback,
+                                double rank,
+                                String contentHighlight,
+                                String aiEnhancedContentHighlight) {
+}
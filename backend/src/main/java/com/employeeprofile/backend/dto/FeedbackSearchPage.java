@@ -0,0 +1,7 @@
+package com.employeeprofile.backend.dto;
+
+import java.util.List;
+
+// One page of full-text search results, best match first
+public record FeedbackSearchPage(List<FeedbackSearchHit> items, int page, int size, boolean hasNext) {
+}
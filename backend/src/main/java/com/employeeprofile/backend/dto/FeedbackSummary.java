@@ -0,0 +1,37 @@
+package com.employeeprofile.backend.dto;
+
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.entity.FeedbackType;
+
+// Feedback list row with both employees reduced to summaries.
+// Keeps the JSON shape of Feedback so existing clients read it unchanged.
+public record FeedbackSummary(Long id,
+                              EmployeeSummary employee,
+                              EmployeeSummary feedbackGiver,
+                              String content,
+                              FeedbackType feedbackType,
+                              FeedbackStatus status,
+                              Boolean isAiEnhanced,
+                              String aiEnhancedContent) {
+
+    // Flat constructor for JPQL constructor expressions (see FeedbackRepository)
+    public FeedbackSummary(Long id, String content, FeedbackType feedbackType, FeedbackStatus status,
+                           Boolean isAiEnhanced, String aiEnhancedContent,
+                           Long employeeId, String employeeCode, String employeeFirstName,
+                           String employeeLastName, String employeePosition, String employeeDepartment,
+                           String employeePictureUrl,
+                           Long giverId, String giverCode, String giverFirstName,
+                           String giverLastName, String giverPosition, String giverDepartment,
+                           String giverPictureUrl) {
+        this(id,
+             new EmployeeSummary(employeeId, employeeCode, employeeFirstName, employeeLastName,
+                     employeePosition, employeeDepartment, employeePictureUrl),
+             new EmployeeSummary(giverId, giverCode, giverFirstName, giverLastName,
+                     giverPosition, giverDepartment, giverPictureUrl),
+             content, feedbackType, status, isAiEnhanced, aiEnhancedContent);
+    }
+
+    public String getFeedbackGiverName() {
+        return feedbackGiver == null ? "Anonymous" : feedbackGiver.getFullName();
+    }
+}
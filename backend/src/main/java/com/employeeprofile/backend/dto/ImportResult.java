@@ -0,0 +1,13 @@
+package com.employeeprofile.backend.dto;
+
+import java.util.List;
+
+// Outcome of a bulk employee import. errors holds the first rejected rows
+// ("line 12: email: Email should be valid"); rejected counts all of them.
+public record ImportResult(long rowsRead,
+                           long imported,
+                           long rejected,
+                           List<String> errors,
+                           long elapsedMillis,
+                           double rowsPerSecond) {
+}
@@ -0,0 +1,5 @@
+package com.employeeprofile.backend.dto;
+
+// Feedback row still waiting for AI enhancement: just what the model needs
+public record PendingEnhancement(Long id, String content) {
+}
@@ -0,0 +1,8 @@
+package com.employeeprofile.backend.dto;
+
+// Rows written by one synthetic data run (all zero when the dataset already existed)
+public record SyntheticDataResult(long employees,
+                                  long feedback,
+                                  long absences,
+                                  long elapsedMillis) {
+}
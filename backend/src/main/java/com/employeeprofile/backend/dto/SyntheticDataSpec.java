@@ -0,0 +1,11 @@
+package com.employeeprofile.backend.dto;
+
+// Size and seed of a synthetic dataset; the same spec always produces the same rows
+public record SyntheticDataSpec(int employees, int feedback, int absences, long seed) {
+
+    public SyntheticDataSpec {
+        if (employees < 2 || feedback < 0 || absences < 0) {
+            throw new IllegalArgumentException("Synthetic data needs at least 2 employees and no negative counts");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.employeeprofile.backend.entity;
+
+import jakarta.persistence.*;
+
+// Absence day totals of one employee for one absence type in one calendar month.
+// Maintained by AbsenceAggregateService; department is copied from the employee so
+// department reports do not need to join employees.
+@Entity
+@Table(name = "absence_aggregates",
+       uniqueConstraints = @UniqueConstraint(name = "uk_absence_aggregates_key",
+               columnNames = {"employee_id", "absence_type", "period_year", "period_month"}),
+       indexes = @Index(name = "idx_absence_aggregates_period", columnList = "period_year, period_month, department"))
+public class AbsenceAggregate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+    
+    @Column(nullable = false)
+    private String department;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "absence_type", nullable = false)
+    private AbsenceType absenceType;
+    
+    @Column(name = "period_year", nullable = false)
+    private int year;
+    
+    @Column(name = "period_month", nullable = false)
+    private int month;
+    
+    // Calendar days of absence falling into this month
+    @Column(nullable = false)
+    private long days;
+    
+    // Requests starting in this month
+    @Column(nullable = false)
+    private long requests;
+    
+    public AbsenceAggregate() {}
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+    
+    public String getDepartment() { return department; }
+    public void setDepartment(String department) { this.department = department; }
+    
+    public AbsenceType getAbsenceType() { return absenceType; }
+    public void setAbsenceType(AbsenceType absenceType) { this.absenceType = absenceType; }
+    
+    public int getYear() { return year; }
+    public void setYear(int year) { this.year = year; }
+    
+    public int getMonth() { return month; }
+    public void setMonth(int month) { this.month = month; }
+    
+    public long getDays() { return days; }
+    public void setDays(long days) { this.days = days; }
+    
+    public long getRequests() { return requests; }
+    public void setRequests(long requests) { this.requests = requests; }
+}
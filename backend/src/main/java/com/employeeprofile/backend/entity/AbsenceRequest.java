@@ -3,6 +3,8 @@ package com.employeeprofile.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import java.time.LocalDate;
@@ -10,7 +12,13 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "absence_requests")
+@Table(name = "absence_requests", indexes = {
+    // Calendar overlap queries (start_date <= :to AND end_date >= :from)
+    @Index(name = "idx_absence_requests_dates", columnList = "start_date, end_date"),
+    @Index(name = "idx_absence_requests_employee", columnList = "employee_id"),
+    // MAX(updated_at) for the list ETags (see ResourceVersionService)
+    @Index(name = "idx_absence_requests_updated_at", columnList = "updated_at")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class AbsenceRequest {
     
@@ -45,6 +53,30 @@ public class AbsenceRequest {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    // Approval workflow; pending requests are served by the partial index
+    // idx_absence_requests_pending on PostgreSQL (see PostgresSchemaInitializer)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private AbsenceStatus status = AbsenceStatus.PENDING;
+    
+    // Manager who approved or rejected the request
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reviewer_id")
+    @JsonIgnore
+    private Employee reviewer;
+    
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+    
+    // Optimistic locking: concurrent reviews of the same request cannot both succeed
+    @Version
+    private Long version;
+    
+    // Last change of any kind; bulk updates set it themselves
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     public AbsenceRequest() {}
     
     public AbsenceRequest(Employee employee, AbsenceType absenceType, LocalDate startDate, 
@@ -78,6 +110,21 @@ public class AbsenceRequest {
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
+    public AbsenceStatus getStatus() { return status; }
+    public void setStatus(AbsenceStatus status) { this.status = status; }
+    
+    public Employee getReviewer() { return reviewer; }
+    public void setReviewer(Employee reviewer) { this.reviewer = reviewer; }
+    
+    public LocalDateTime getReviewedAt() { return reviewedAt; }
+    public void setReviewedAt(LocalDateTime reviewedAt) { this.reviewedAt = reviewedAt; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
     public long getDurationInDays() {
         if (startDate != null && endDate != null) {
             long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
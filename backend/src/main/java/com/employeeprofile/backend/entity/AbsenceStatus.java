@@ -1,10 +1,24 @@
 package com.employeeprofile.backend.entity;
 
+import java.util.Set;
+
 public enum AbsenceStatus {
     PENDING,
     APPROVED,
     REJECTED,
     CANCELLED,
     IN_PROGRESS,
-    COMPLETED
+    COMPLETED;
+
+    // Requests in these states no longer count as absences (calendar, aggregates)
+    public static final Set<AbsenceStatus> WITHDRAWN = Set.of(REJECTED, CANCELLED);
+
+    public boolean canTransitionTo(AbsenceStatus next) {
+        return switch (this) {
+            case PENDING -> next == APPROVED || next == REJECTED || next == CANCELLED;
+            case APPROVED -> next == IN_PROGRESS || next == COMPLETED || next == CANCELLED;
+            case IN_PROGRESS -> next == COMPLETED;
+            case REJECTED, CANCELLED, COMPLETED -> false;
+        };
+    }
 }
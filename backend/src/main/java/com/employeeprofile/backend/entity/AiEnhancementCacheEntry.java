@@ -0,0 +1,48 @@
+package com.employeeprofile.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Persisted AI enhancement result, keyed by the SHA-256 of the normalized input
+// text plus model and prompt parameters. Only the table is mapped here: AiEnhancementCache
+// reads and upserts it with JDBC, refreshing created_at on every write.
+@Entity
+@Table(name = "ai_enhancement_cache")
+public class AiEnhancementCacheEntry {
+    
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+    
+    @Column(name = "enhanced_text", columnDefinition = "TEXT", nullable = false)
+    private String enhancedText;
+    
+    // How long the upstream call took when the entry was produced
+    @Column(name = "upstream_millis", nullable = false)
+    private long upstreamMillis;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    public AiEnhancementCacheEntry() {}
+    
+    public AiEnhancementCacheEntry(String cacheKey, String enhancedText, long upstreamMillis) {
+        this.cacheKey = cacheKey;
+        this.enhancedText = enhancedText;
+        this.upstreamMillis = upstreamMillis;
+    }
+    
+    // Getters and Setters
+    public String getCacheKey() { return cacheKey; }
+    public void setCacheKey(String cacheKey) { this.cacheKey = cacheKey; }
+    
+    public String getEnhancedText() { return enhancedText; }
+    public void setEnhancedText(String enhancedText) { this.enhancedText = enhancedText; }
+    
+    public long getUpstreamMillis() { return upstreamMillis; }
+    public void setUpstreamMillis(long upstreamMillis) { this.upstreamMillis = upstreamMillis; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,16 +1,28 @@
 package com.employeeprofile.backend.entity;
 
+import com.employeeprofile.backend.config.CacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+    // MAX(updated_at) for the list ETags (see ResourceVersionService)
+    @Index(name = "idx_employees_updated_at", columnList = "updated_at")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+// Read-write second-level cache: entries are soft-locked while a transaction updates the
+// row and replaced on commit, so readers never see a stale employee
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.EMPLOYEE_REGION)
 public class Employee {
     
     @Id
@@ -79,14 +91,24 @@ public class Employee {
     @Column(name = "profile_picture_url")
     private String profilePictureUrl;
     
+    // Not serialized: these are served by the feedback and absence endpoints, and
+    // touching them while writing employee lists would lazy-load them row by row
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JsonIgnoreProperties("employee")
+    @JsonIgnore
     private List<Feedback> feedbacks;
     
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    @JsonIgnoreProperties("employee")
+    @JsonIgnore
     private List<AbsenceRequest> absenceRequests;
     
+    // Row version for optimistic locking and ETags
+    @Version
+    private Long version;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     public Employee() {}
     
     public Employee(String firstName, String lastName, String email, String employeeId, 
@@ -148,6 +170,12 @@ public class Employee {
     public String getProfilePictureUrl() { return profilePictureUrl; }
     public void setProfilePictureUrl(String profilePictureUrl) { this.profilePictureUrl = profilePictureUrl; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
     public List<Feedback> getFeedbacks() { return feedbacks; }
     public void setFeedbacks(List<Feedback> feedbacks) { this.feedbacks = feedbacks; }
     
@@ -3,9 +3,23 @@ package com.employeeprofile.backend.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback", indexes = {
+        // Feed filtered by receiver / giver, newest first (keyset on id)
+        @Index(name = "idx_feedback_employee", columnList = "employee_id, id"),
+        @Index(name = "idx_feedback_giver", columnList = "feedback_giver_id, id"),
+        // Status-filtered lists per receiver / giver, newest first
+        @Index(name = "idx_feedback_employee_status", columnList = "employee_id, status, id"),
+        @Index(name = "idx_feedback_giver_status", columnList = "feedback_giver_id, status, id"),
+        // Moderation queue across all employees
+        @Index(name = "idx_feedback_status", columnList = "status, id"),
+        // MAX(updated_at) for the list ETags (see ResourceVersionService)
+        @Index(name = "idx_feedback_updated_at", columnList = "updated_at")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Feedback {
     
@@ -34,6 +48,11 @@ public class Feedback {
     @Column(name = "feedback_type", nullable = false)
     private FeedbackType feedbackType = FeedbackType.POSITIVE;
     
+    // Moderation state; nullable only so existing rows can be added to (see PostgresSchemaInitializer)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20)
+    private FeedbackStatus status = FeedbackStatus.ACTIVE;
+    
     // AI Enhancement fields
     @Column(name = "is_ai_enhanced")
     private Boolean isAiEnhanced = false;
@@ -42,6 +61,14 @@ public class Feedback {
     @Column(name = "ai_enhanced_content", columnDefinition = "TEXT")
     private String aiEnhancedContent;
     
+    // Row version for optimistic locking and ETags; bulk updates bump both columns themselves
+    @Version
+    private Long version;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
     public Feedback() {}
     
     public Feedback(Employee employee, String content, FeedbackType feedbackType) {
@@ -66,6 +93,15 @@ public class Feedback {
     public FeedbackType getFeedbackType() { return feedbackType; }
     public void setFeedbackType(FeedbackType feedbackType) { this.feedbackType = feedbackType; }
     
+    public FeedbackStatus getStatus() { return status; }
+    public void setStatus(FeedbackStatus status) { this.status = status; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
     public String getAiEnhancedContent() { return aiEnhancedContent; }
     public void setAiEnhancedContent(String aiEnhancedContent) { this.aiEnhancedContent = aiEnhancedContent; }
     
@@ -89,6 +125,7 @@ public class Feedback {
                 "id=" + id +
                 ", content='" + content + '\'' +
                 ", feedbackType=" + feedbackType +
+                ", status=" + status +
                 '}';
     }
 }
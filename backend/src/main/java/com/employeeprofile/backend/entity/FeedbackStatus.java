@@ -1,9 +1,16 @@
 package com.employeeprofile.backend.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum FeedbackStatus {
     ACTIVE,
     ARCHIVED,
     HIDDEN,
     FLAGGED,
-    UNDER_REVIEW
+    UNDER_REVIEW;
+
+    // Statuses shown by the regular feedback lists; archived and hidden feedback
+    // is only reachable through the moderation endpoints
+    public static final Set<FeedbackStatus> LISTED = EnumSet.of(ACTIVE, FLAGGED, UNDER_REVIEW);
 }
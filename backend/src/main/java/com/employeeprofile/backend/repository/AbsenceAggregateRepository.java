@@ -0,0 +1,52 @@
+package com.employeeprofile.backend.repository;
+
+import com.employeeprofile.backend.dto.AbsenceTypeTotal;
+import com.employeeprofile.backend.dto.DepartmentAbsenceTotal;
+import com.employeeprofile.backend.entity.AbsenceAggregate;
+import com.employeeprofile.backend.entity.AbsenceType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AbsenceAggregateRepository extends JpaRepository<AbsenceAggregate, Long> {
+    
+    // Adds to an existing row in one statement (taking out a request); returns 0 when the row
+    // does not exist. New rows are created by AbsenceAggregateService's upsert.
+    // Clears the persistence context so aggregates loaded earlier are not read stale.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AbsenceAggregate g SET g.days = g.days + :days, g.requests = g.requests + :requests, " +
+           "g.department = :department " +
+           "WHERE g.employeeId = :employeeId AND g.absenceType = :absenceType " +
+           "AND g.year = :year AND g.month = :month")
+    int increment(@Param("employeeId") Long employeeId,
+                  @Param("department") String department,
+                  @Param("absenceType") AbsenceType absenceType,
+                  @Param("year") int year,
+                  @Param("month") int month,
+                  @Param("days") long days,
+                  @Param("requests") long requests);
+    
+    List<AbsenceAggregate> findByEmployeeIdAndYearOrderByMonthAscAbsenceTypeAsc(Long employeeId, int year);
+    
+    // A null month covers the whole year
+    @Query("SELECT new com.employeeprofile.backend.dto.DepartmentAbsenceTotal(" +
+           "g.department, g.absenceType, SUM(g.days), SUM(g.requests)) " +
+           "FROM AbsenceAggregate g " +
+           "WHERE g.year = :year AND (:month IS NULL OR g.month = :month) " +
+           "GROUP BY g.department, g.absenceType ORDER BY g.department, g.absenceType")
+    List<DepartmentAbsenceTotal> sumByDepartment(@Param("year") int year, @Param("month") Integer month);
+    
+    @Query("SELECT new com.employeeprofile.backend.dto.AbsenceTypeTotal(g.absenceType, SUM(g.days), SUM(g.requests)) " +
+           "FROM AbsenceAggregate g " +
+           "WHERE g.year = :year AND (:month IS NULL OR g.month = :month) " +
+           "AND (:department IS NULL OR g.department = :department) " +
+           "GROUP BY g.absenceType ORDER BY g.absenceType")
+    List<AbsenceTypeTotal> sumByType(@Param("year") int year,
+                                     @Param("month") Integer month,
+                                     @Param("department") String department);
+}
@@ -1,14 +1,96 @@
 package com.employeeprofile.backend.repository;
 
+import com.employeeprofile.backend.dto.AbsenceCalendarEntry;
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
 import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceType;
 import com.employeeprofile.backend.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AbsenceRequestRepository extends JpaRepository<AbsenceRequest, Long> {
     
+    // Selects only the columns of AbsenceRequestSummary, joining the employee in one statement
+    String SUMMARY_QUERY = "SELECT new com.employeeprofile.backend.dto.AbsenceRequestSummary(" +
+            "a.id, a.absenceType, a.startDate, a.endDate, a.reason, a.createdAt, a.status, a.version, " +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.position, e.department, e.profilePictureUrl) " +
+            "FROM AbsenceRequest a JOIN a.employee e ";
+    
     List<AbsenceRequest> findByEmployeeOrderByCreatedAtDesc(Employee employee);
+    
+    // Projections for the list endpoints
+    @Query(SUMMARY_QUERY + "ORDER BY a.id ASC")
+    List<AbsenceRequestSummary> findAllSummaries();
+    
+    @Query(SUMMARY_QUERY + "WHERE e.id = :employeeId ORDER BY a.createdAt DESC")
+    List<AbsenceRequestSummary> findSummariesByEmployeeId(@Param("employeeId") Long employeeId);
+    
+    @Query(SUMMARY_QUERY + "WHERE e.id = :employeeId ORDER BY a.createdAt DESC, a.id DESC")
+    List<AbsenceRequestSummary> findSummariesByEmployeeId(@Param("employeeId") Long employeeId, Limit limit);
+    
+    // Pending requests, oldest first, one keyset page at a time (manager approval queue).
+    // On PostgreSQL this walks the partial index idx_absence_requests_pending.
+    @Query(SUMMARY_QUERY + "WHERE a.status = com.employeeprofile.backend.entity.AbsenceStatus.PENDING " +
+           "AND a.id > :afterId AND (:department IS NULL OR e.department = :department) ORDER BY a.id")
+    List<AbsenceRequestSummary> findPendingSummaries(@Param("afterId") Long afterId,
+                                                     @Param("department") String department,
+                                                     Limit limit);
+    
+    // Rejected and cancelled requests are not absences. A NULL status is a request from before
+    // the approval workflow that the status backfill has not reached yet: it counts
+    String COUNTED_CONDITION = "(a.status IS NULL OR a.status NOT IN (" +
+            "com.employeeprofile.backend.entity.AbsenceStatus.REJECTED, " +
+            "com.employeeprofile.backend.entity.AbsenceStatus.CANCELLED)) ";
+    
+    // Selects only the columns of AbsenceCalendarEntry
+    String CALENDAR_QUERY = "SELECT new com.employeeprofile.backend.dto.AbsenceCalendarEntry(" +
+            "a.id, e.id, e.firstName, e.lastName, e.department, a.absenceType, a.startDate, a.endDate) " +
+            "FROM AbsenceRequest a JOIN a.employee e ";
+    
+    // Absences overlapping [from, to], optionally narrowed to a department and type.
+    // Served by idx_absence_requests_dates (start_date, end_date).
+    @Query(CALENDAR_QUERY +
+           "WHERE a.startDate <= :to AND a.endDate >= :from AND " + COUNTED_CONDITION +
+           "AND (:department IS NULL OR e.department = :department) " +
+           "AND (:absenceType IS NULL OR a.absenceType = :absenceType) " +
+           "ORDER BY a.startDate, a.id")
+    List<AbsenceCalendarEntry> findCalendarEntries(@Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to,
+                                                   @Param("department") String department,
+                                                   @Param("absenceType") AbsenceType absenceType);
+    
+    // Every absence from a server-side cursor (aggregate rebuild; must be consumed inside a transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(CALENDAR_QUERY + "WHERE " + COUNTED_CONDITION + "ORDER BY a.id")
+    Stream<AbsenceCalendarEntry> streamCalendarEntries();
+    
+    // Scheduled transitions: one set-based UPDATE each, bumping the version so reviewers
+    // holding an older copy get a conflict. Approved requests whose end date has passed
+    // complete directly, so order matters only for rows the scheduler missed for days.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AbsenceRequest a SET a.status = com.employeeprofile.backend.entity.AbsenceStatus.COMPLETED, " +
+           "a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.status IN (com.employeeprofile.backend.entity.AbsenceStatus.APPROVED, " +
+           "com.employeeprofile.backend.entity.AbsenceStatus.IN_PROGRESS) AND a.endDate < :today")
+    int completeEndedBefore(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+    
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE AbsenceRequest a SET a.status = com.employeeprofile.backend.entity.AbsenceStatus.IN_PROGRESS, " +
+           "a.version = a.version + 1, a.updatedAt = :now " +
+           "WHERE a.status = com.employeeprofile.backend.entity.AbsenceStatus.APPROVED " +
+           "AND a.startDate <= :today AND a.endDate >= :today")
+    int startActiveOn(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
 }
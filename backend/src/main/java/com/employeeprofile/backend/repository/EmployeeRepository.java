@@ -1,26 +1,81 @@
 package com.employeeprofile.backend.repository;
 
+import com.employeeprofile.backend.config.CacheConfig;
+import com.employeeprofile.backend.dto.EmployeeSummary;
 import com.employeeprofile.backend.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     
     // Find all employees ordered by ID to maintain consistent order
+    // (query cache: the ids come from the result cache, the rows from the entity cache)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.EMPLOYEE_QUERY_REGION)
+    })
     List<Employee> findAllByOrderByIdAsc();
     
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.EMPLOYEE_QUERY_REGION)
+    })
+    List<Employee> findByDepartmentOrderByIdAsc(String department);
+    
+    // Selects only the columns of EmployeeSummary
+    String SUMMARY_QUERY = "SELECT new com.employeeprofile.backend.dto.EmployeeSummary(" +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.position, e.department, e.profilePictureUrl) " +
+            "FROM Employee e ";
+    
+    // Keyset pagination: the next employees after the given ID
+    List<EmployeeSummary> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    List<EmployeeSummary> findSummariesByIdIn(Collection<Long> ids);
+    
+    // Stream all employees from a server-side cursor (must be consumed inside a transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY_QUERY + "ORDER BY e.id ASC")
+    Stream<EmployeeSummary> streamSummaries();
+    
     Optional<Employee> findByEmployeeId(String employeeId);
     
-    // Search by name (using firstName and lastName)
-    @Query("SELECT e FROM Employee e WHERE " +
-           "LOWER(CONCAT(e.firstName, ' ', e.lastName)) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<Employee> findByNameContaining(@Param("name") String name);
+    // Search by name (using firstName and lastName), unranked
+    @Query(SUMMARY_QUERY + "WHERE " +
+           "LOWER(CONCAT(e.firstName, ' ', e.lastName)) LIKE LOWER(CONCAT('%', :name, '%')) " +
+           "ORDER BY e.id")
+    List<EmployeeSummary> findByNameContaining(@Param("name") String name, Limit limit);
+    
+    // Ranked search by name on PostgreSQL. The WHERE expression matches the pg_trgm GIN
+    // index created by PostgresSchemaInitializer; :pattern is the LIKE-escaped :query.
+    // Only the EmployeeSummary columns, aliased to its components (quoted: PostgreSQL would
+    // lower-case them).
+    @Query(value = "SELECT e.id AS \"id\", e.employee_id AS \"employeeId\", e.first_name AS \"firstName\", " +
+                   "e.last_name AS \"lastName\", e.position AS \"position\", e.department AS \"department\", " +
+                   "e.profile_picture_url AS \"profilePictureUrl\" FROM employees e " +
+                   "WHERE LOWER(e.first_name || ' ' || e.last_name) LIKE '%' || :pattern || '%' " +
+                   "ORDER BY " +
+                   "CASE WHEN LOWER(e.first_name || ' ' || e.last_name) LIKE :pattern || '%' THEN 0 " +
+                   "WHEN LOWER(e.first_name || ' ' || e.last_name) LIKE '% ' || :pattern || '%' THEN 1 " +
+                   "ELSE 2 END, " +
+                   "similarity(LOWER(e.first_name || ' ' || e.last_name), :query) DESC, " +
+                   "e.id " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<EmployeeSummary> searchByFullName(@Param("pattern") String pattern,
+                                    @Param("query") String query,
+                                    @Param("limit") int limit);
     
     // Count queries
     long count();
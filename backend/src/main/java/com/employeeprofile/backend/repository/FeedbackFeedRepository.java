@@ -0,0 +1,16 @@
+package com.employeeprofile.backend.repository;
+
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+// Custom fragment of FeedbackRepository for the filtered feedback feed
+public interface FeedbackFeedRepository {
+
+    // Feedback with an id below beforeId, newest first, at most limit rows
+    List<FeedbackSummary> findFeedPage(FeedbackFeedFilter filter, Collection<FeedbackStatus> statuses,
+                                       Long beforeId, int limit);
+}
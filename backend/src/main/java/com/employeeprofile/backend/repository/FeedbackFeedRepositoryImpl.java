@@ -0,0 +1,63 @@
+package com.employeeprofile.backend.repository;
+
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.Collection;
+import java.util.List;
+
+// Builds the feed query from the filters actually given instead of using
+// "(:param IS NULL OR ...)" conditions: each combination becomes its own statement,
+// so the database can pick idx_feedback_employee / idx_feedback_giver (or the primary
+// key) and stop after limit rows.
+class FeedbackFeedRepositoryImpl implements FeedbackFeedRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FeedbackSummary> findFeedPage(FeedbackFeedFilter filter, Collection<FeedbackStatus> statuses,
+                                              Long beforeId, int limit) {
+        StringBuilder jpql = new StringBuilder(FeedbackRepository.SUMMARY_QUERY)
+                .append("WHERE f.status IN :statuses");
+        if (beforeId != null) {
+            jpql.append(" AND f.id < :beforeId");
+        }
+        if (filter.employeeId() != null) {
+            jpql.append(" AND e.id = :employeeId");
+        }
+        if (filter.feedbackGiverId() != null) {
+            jpql.append(" AND g.id = :feedbackGiverId");
+        }
+        if (filter.feedbackType() != null) {
+            jpql.append(" AND f.feedbackType = :feedbackType");
+        }
+        if (filter.aiEnhanced() != null) {
+            jpql.append(filter.aiEnhanced()
+                    ? " AND f.isAiEnhanced = true"
+                    : " AND (f.isAiEnhanced = false OR f.isAiEnhanced IS NULL)");
+        }
+        jpql.append(" ORDER BY f.id DESC");
+
+        TypedQuery<FeedbackSummary> query = entityManager.createQuery(jpql.toString(), FeedbackSummary.class)
+                .setParameter("statuses", statuses)
+                .setMaxResults(limit);
+        if (beforeId != null) {
+            query.setParameter("beforeId", beforeId);
+        }
+        if (filter.employeeId() != null) {
+            query.setParameter("employeeId", filter.employeeId());
+        }
+        if (filter.feedbackGiverId() != null) {
+            query.setParameter("feedbackGiverId", filter.feedbackGiverId());
+        }
+        if (filter.feedbackType() != null) {
+            query.setParameter("feedbackType", filter.feedbackType());
+        }
+        return query.getResultList();
+    }
+}
@@ -1,15 +1,85 @@
 package com.employeeprofile.backend.repository;
 
+import com.employeeprofile.backend.dto.FeedbackDocument;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.dto.PendingEnhancement;
 import com.employeeprofile.backend.entity.Employee;
 import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
+public interface FeedbackRepository extends JpaRepository<Feedback, Long>, FeedbackFeedRepository {
     
-    List<Feedback> findByEmployeeOrderByIdDesc(Employee employee);
-    List<Feedback> findByFeedbackGiverOrderByIdDesc(Employee feedbackGiver);
+    // Selects only the columns of FeedbackSummary, joining both employees in one statement
+    String SUMMARY_QUERY = "SELECT new com.employeeprofile.backend.dto.FeedbackSummary(" +
+            "f.id, f.content, f.feedbackType, f.status, f.isAiEnhanced, f.aiEnhancedContent, " +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.position, e.department, e.profilePictureUrl, " +
+            "g.id, g.employeeId, g.firstName, g.lastName, g.position, g.department, g.profilePictureUrl) " +
+            "FROM Feedback f JOIN f.employee e JOIN f.feedbackGiver g ";
+    
+    // Entity variants fetch both employees with the feedback, avoiding a lazy load per row.
+    // All lists are filtered by status in the database (usually FeedbackStatus.LISTED).
+    @EntityGraph(attributePaths = {"employee", "feedbackGiver"})
+    List<Feedback> findByStatusInOrderByIdAsc(Collection<FeedbackStatus> statuses);
+    
+    @EntityGraph(attributePaths = {"employee", "feedbackGiver"})
+    List<Feedback> findByEmployeeAndStatusInOrderByIdDesc(Employee employee, Collection<FeedbackStatus> statuses);
+    
+    @EntityGraph(attributePaths = {"employee", "feedbackGiver"})
+    List<Feedback> findByFeedbackGiverAndStatusInOrderByIdDesc(Employee feedbackGiver, Collection<FeedbackStatus> statuses);
+    
+    // Projections for the list endpoints; the per-employee ones are served by
+    // idx_feedback_employee_status / idx_feedback_giver_status, the rest by idx_feedback_status
+    @Query(SUMMARY_QUERY + "WHERE f.status IN :statuses ORDER BY f.id ASC")
+    List<FeedbackSummary> findAllSummaries(@Param("statuses") Collection<FeedbackStatus> statuses);
+    
+    @Query(SUMMARY_QUERY + "WHERE e.id = :employeeId AND f.status IN :statuses ORDER BY f.id DESC")
+    List<FeedbackSummary> findSummariesByEmployeeId(@Param("employeeId") Long employeeId,
+                                                    @Param("statuses") Collection<FeedbackStatus> statuses);
+    
+    @Query(SUMMARY_QUERY + "WHERE g.id = :feedbackGiverId AND f.status IN :statuses ORDER BY f.id DESC")
+    List<FeedbackSummary> findSummariesByFeedbackGiverId(@Param("feedbackGiverId") Long feedbackGiverId,
+                                                         @Param("statuses") Collection<FeedbackStatus> statuses);
+    
+    // Rows of one search result page, in no particular order
+    @Query(SUMMARY_QUERY + "WHERE f.id IN :ids")
+    List<FeedbackSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Searchable text of every feedback from a server-side cursor (in-memory search rebuild;
+    // must be consumed inside a transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.employeeprofile.backend.dto.FeedbackDocument(f.id, f.content, f.aiEnhancedContent, f.status) " +
+           "FROM Feedback f ORDER BY f.id")
+    Stream<FeedbackDocument> streamSearchDocuments();
+    
+    // Moves the given feedback to a new status in one statement; rows already in it are
+    // left alone, so the returned count is the number of feedback actually changed
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Feedback f SET f.status = :status, f.version = f.version + 1, f.updatedAt = :now " +
+           "WHERE f.id IN :ids AND f.status <> :status")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") FeedbackStatus status,
+                     @Param("now") LocalDateTime now);
+    
+    // Un-enhanced feedback in id order, one keyset chunk at a time (AI backfill)
+    @Query("SELECT new com.employeeprofile.backend.dto.PendingEnhancement(f.id, f.content) FROM Feedback f " +
+           "WHERE (f.isAiEnhanced = false OR f.isAiEnhanced IS NULL) AND f.id > :afterId ORDER BY f.id")
+    List<PendingEnhancement> findPendingEnhancements(@Param("afterId") Long afterId, Limit limit);
+    
+    @Query("SELECT COUNT(f) FROM Feedback f WHERE f.isAiEnhanced = false OR f.isAiEnhanced IS NULL")
+    long countPendingEnhancements();
 }
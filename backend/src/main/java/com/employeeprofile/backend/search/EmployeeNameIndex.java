@@ -0,0 +1,195 @@
+package com.employeeprofile.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-process trigram index over lower-cased full names.
+// A query of three or more characters only verifies the names in the shortest
+// posting list of its trigrams; shorter queries scan the (compact) name table.
+// Matches are ranked: whole-name prefix, then word prefix, then substring,
+// then shorter names first, then by id.
+public class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // slot -> indexed name; a renamed employee keeps its slot, so every slot is live
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<String, Postings> postingsByGram = new HashMap<>();
+
+    public void put(Long id, String firstName, String lastName) {
+        String name = normalize(firstName + " " + lastName);
+        lock.writeLock().lock();
+        try {
+            Integer previous = slotsById.get(id);
+            int slot;
+            if (previous != null) {
+                slot = previous;
+                String oldName = entries.get(slot).name;
+                if (oldName.equals(name)) {
+                    return;
+                }
+                for (String gram : grams(oldName)) {
+                    Postings postings = postingsByGram.get(gram);
+                    postings.remove(slot);
+                    if (postings.size == 0) {
+                        postingsByGram.remove(gram);
+                    }
+                }
+                entries.set(slot, new Entry(id, name));
+            } else {
+                slot = entries.size();
+                entries.add(new Entry(id, name));
+                slotsById.put(id, slot);
+            }
+            for (String gram : grams(name)) {
+                postingsByGram.computeIfAbsent(gram, g -> new Postings()).add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            slotsById.clear();
+            postingsByGram.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // IDs of the best matching names, best first
+    public List<Long> search(String query, int limit) {
+        String q = normalize(query);
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Match> best = new PriorityQueue<>(Comparator.reverseOrder());
+            if (q.length() >= GRAM) {
+                Postings candidates = shortestPostings(q);
+                if (candidates == null) {
+                    return List.of();
+                }
+                for (int i = 0; i < candidates.size; i++) {
+                    offer(best, entries.get(candidates.slots[i]), q, limit);
+                }
+            } else {
+                for (Entry entry : entries) {
+                    offer(best, entry, q, limit);
+                }
+            }
+
+            Match[] matches = best.toArray(new Match[0]);
+            Arrays.sort(matches);
+            List<Long> ids = new ArrayList<>(matches.length);
+            for (Match match : matches) {
+                ids.add(match.id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Postings shortestPostings(String q) {
+        Postings shortest = null;
+        for (int i = 0; i + GRAM <= q.length(); i++) {
+            Postings postings = postingsByGram.get(q.substring(i, i + GRAM));
+            if (postings == null) {
+                return null;
+            }
+            if (shortest == null || postings.size < shortest.size) {
+                shortest = postings;
+            }
+        }
+        return shortest;
+    }
+
+    // Distinct trigrams, so a name repeating one ("hannah hanna") is posted once per gram
+    private static Set<String> grams(String name) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= name.length(); i++) {
+            grams.add(name.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void offer(PriorityQueue<Match> best, Entry entry, String q, int limit) {
+        if (!entry.name.contains(q)) {
+            return;
+        }
+        int rank = entry.name.startsWith(q) ? 0 : entry.name.contains(" " + q) ? 1 : 2;
+        Match match = new Match(rank, entry.name.length(), entry.id);
+        if (best.size() < limit) {
+            best.add(match);
+        } else if (match.compareTo(best.peek()) < 0) {
+            best.poll();
+            best.add(match);
+        }
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private record Entry(Long id, String name) {
+    }
+
+    private record Match(int rank, int length, Long id) implements Comparable<Match> {
+        @Override
+        public int compareTo(Match other) {
+            if (rank != other.rank) {
+                return Integer.compare(rank, other.rank);
+            }
+            if (length != other.length) {
+                return Integer.compare(length, other.length);
+            }
+            return id.compareTo(other.id);
+        }
+    }
+
+    // Growable, ascending list of distinct slots. New names append; a renamed one is taken
+    // out and put back at its position
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            int at = size == 0 || slots[size - 1] < slot ? size : -Arrays.binarySearch(slots, 0, size, slot) - 1;
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            size--;
+        }
+    }
+}
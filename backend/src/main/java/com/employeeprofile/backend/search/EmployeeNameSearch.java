@@ -0,0 +1,19 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.entity.Employee;
+
+import java.util.List;
+
+// Ranked employee search by full name ("first last").
+// Results are ordered best match first and never exceed the given limit.
+public interface EmployeeNameSearch {
+
+    List<EmployeeSummary> search(String query, int limit);
+
+    // Called after an employee was created or changed
+    void index(Employee employee);
+
+    // Rebuild whatever the implementation keeps next to the employees table
+    void rebuild();
+}
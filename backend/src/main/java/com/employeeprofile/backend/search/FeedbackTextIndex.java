@@ -0,0 +1,403 @@
+package com.employeeprofile.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// In-process inverted index over feedback content and AI-enhanced content.
+// Every query term must match (like websearch_to_tsquery). Documents are scored with
+// BM25, counting a term in the AI-enhanced content at ts_rank's default B weight (0.4)
+// against 1.0 in the original content, so results come out in roughly the order the
+// PostgreSQL search would return them. Only documents marked as listed are returned.
+public class FeedbackTextIndex {
+
+    static final float CONTENT_WEIGHT = 1.0f;
+    static final float AI_CONTENT_WEIGHT = 0.4f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Same spirit as PostgreSQL's english stop word list, trimmed to the common cases
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "but", "by",
+            "for", "if", "in", "into", "is", "it", "its", "no", "not", "of", "on", "or", "so", "such", "that", "the",
+            "their", "then", "there", "these", "they", "this", "to", "was", "were", "will", "with");
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    // Highlight window, as ts_headline's MaxWords
+    private static final int HIGHLIGHT_WORDS = 35;
+    private static final int HIGHLIGHT_LEAD = 5;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Per slot, in parallel arrays so scoring a candidate touches no objects:
+    // the feedback id, its weighted length and whether it is currently listed.
+    // A document keeps its slot when it is replaced; the postings it was in are kept per
+    // slot so the old text can be taken out, and every posting belongs to a live document.
+    private long[] ids = new long[64];
+    private float[] lengths = new float[64];
+    private boolean[] listed = new boolean[64];
+    private Postings[][] postingsBySlot = new Postings[64][];
+    private int slots;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private double totalLength;
+
+    public void put(Long id, String content, String aiEnhancedContent, boolean isListed) {
+        Map<String, Float> weights = new HashMap<>();
+        float length = addTerms(weights, content, CONTENT_WEIGHT) + addTerms(weights, aiEnhancedContent, AI_CONTENT_WEIGHT);
+        lock.writeLock().lock();
+        try {
+            Integer previous = slotsById.get(id);
+            int slot;
+            if (previous != null) {
+                slot = previous;
+                totalLength -= lengths[slot];
+                for (Postings postings : postingsBySlot[slot]) {
+                    postings.remove(slot);
+                    if (postings.size == 0) {
+                        postingsByTerm.remove(postings.term);
+                    }
+                }
+            } else {
+                if (slots == ids.length) {
+                    ids = Arrays.copyOf(ids, slots * 2);
+                    lengths = Arrays.copyOf(lengths, slots * 2);
+                    listed = Arrays.copyOf(listed, slots * 2);
+                    postingsBySlot = Arrays.copyOf(postingsBySlot, slots * 2);
+                }
+                slot = slots++;
+                ids[slot] = id;
+                slotsById.put(id, slot);
+            }
+            lengths[slot] = length;
+            listed[slot] = isListed;
+            totalLength += length;
+            Postings[] documentPostings = new Postings[weights.size()];
+            int t = 0;
+            for (Map.Entry<String, Float> weight : weights.entrySet()) {
+                Postings postings = postingsByTerm.computeIfAbsent(weight.getKey(), Postings::new);
+                postings.add(slot, weight.getValue());
+                documentPostings[t++] = postings;
+            }
+            postingsBySlot[slot] = documentPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setListed(Long id, boolean isListed) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot != null) {
+                listed[slot] = isListed;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ids = new long[64];
+            lengths = new float[64];
+            listed = new boolean[64];
+            postingsBySlot = new Postings[64][];
+            slots = 0;
+            slotsById.clear();
+            postingsByTerm.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The best listed matches, best first (ties: newest id first)
+    public List<Match> search(String query, int limit) {
+        Set<String> terms = terms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] postings = new Postings[terms.size()];
+            int t = 0;
+            for (String term : terms) {
+                postings[t] = postingsByTerm.get(term);
+                if (postings[t++] == null) {
+                    return List.of();
+                }
+            }
+            // Walk the rarest term; the others are probed with cursors that only move forward
+            // (galloping, so the cost follows the distance between matches, not the list size)
+            Arrays.sort(postings, Comparator.comparingInt(p -> p.size));
+            Postings rarest = postings[0];
+            int documents = slotsById.size();
+            double averageLength = documents == 0 ? 1 : Math.max(totalLength / documents, 1);
+            double[] idf = new double[postings.length];
+            for (t = 0; t < idf.length; t++) {
+                int df = postings[t].size;
+                idf[t] = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            }
+            int[] cursors = new int[postings.length];
+            TopMatches best = new TopMatches(limit);
+
+            candidates:
+            for (int i = 0; i < rarest.size; i++) {
+                int slot = rarest.slots[i];
+                if (!listed[slot]) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * lengths[slot] / averageLength);
+                double score = idf[0] * rarest.weights[i] * (K1 + 1) / (rarest.weights[i] + norm);
+                for (t = 1; t < postings.length; t++) {
+                    Postings other = postings[t];
+                    int found = other.seek(cursors[t], slot);
+                    if (found < 0) {
+                        cursors[t] = -found - 1;
+                        if (cursors[t] == other.size) {
+                            break candidates;
+                        }
+                        continue candidates;
+                    }
+                    cursors[t] = found;
+                    score += idf[t] * other.weights[found] * (K1 + 1) / (other.weights[found] + norm);
+                }
+                best.offer(score, ids[slot]);
+            }
+            return best.toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Distinct, lower-cased query terms without stop words
+    public static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String term = matcher.group().toLowerCase(Locale.ROOT);
+            if (!STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // HTML-escaped excerpt of at most 35 words starting shortly before the first match,
+    // with matching words wrapped in <mark> (the same markup the PostgreSQL search asks
+    // ts_headline for). Null text stays null.
+    public static String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        List<int[]> words = new ArrayList<>();
+        int firstMatch = -1;
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            if (firstMatch < 0 && terms.contains(matcher.group().toLowerCase(Locale.ROOT))) {
+                firstMatch = words.size();
+            }
+            words.add(new int[]{matcher.start(), matcher.end()});
+        }
+        if (words.isEmpty()) {
+            return escapeHtml(text);
+        }
+        int from = Math.max(0, Math.min(firstMatch - HIGHLIGHT_LEAD, words.size() - HIGHLIGHT_WORDS));
+        int to = Math.min(words.size(), from + HIGHLIGHT_WORDS);
+        int start = from == 0 ? 0 : words.get(from)[0];
+        int end = to == words.size() ? text.length() : words.get(to - 1)[1];
+
+        StringBuilder excerpt = new StringBuilder(end - start + 32);
+        int position = start;
+        for (int w = from; w < to; w++) {
+            int[] word = words.get(w);
+            excerpt.append(escapeHtml(text.substring(position, word[0])));
+            String token = text.substring(word[0], word[1]);
+            if (terms.contains(token.toLowerCase(Locale.ROOT))) {
+                excerpt.append("<mark>").append(escapeHtml(token)).append("</mark>");
+            } else {
+                excerpt.append(escapeHtml(token));
+            }
+            position = word[1];
+        }
+        excerpt.append(escapeHtml(text.substring(position, end)));
+        return excerpt.toString();
+    }
+
+    static String escapeHtml(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private static float addTerms(Map<String, Float> weights, String text, float weight) {
+        if (text == null) {
+            return 0;
+        }
+        float length = 0;
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            String term = matcher.group().toLowerCase(Locale.ROOT);
+            if (!STOP_WORDS.contains(term)) {
+                weights.merge(term, weight, Float::sum);
+                length += weight;
+            }
+        }
+        return length;
+    }
+
+    public record Match(Long id, double score) implements Comparable<Match> {
+        @Override
+        public int compareTo(Match other) {
+            if (score != other.score) {
+                return Double.compare(other.score, score);
+            }
+            return other.id.compareTo(id);
+        }
+    }
+
+    // Bounded min-heap on (score, id) in primitive arrays: a candidate that does not
+    // beat the weakest kept match costs one comparison and no allocation
+    private static final class TopMatches {
+        private final double[] scores;
+        private final long[] ids;
+        private int size;
+
+        TopMatches(int limit) {
+            scores = new double[limit];
+            ids = new long[limit];
+        }
+
+        void offer(double score, long id) {
+            if (size < scores.length) {
+                int i = size++;
+                scores[i] = score;
+                ids[i] = id;
+                siftUp(i);
+            } else if (better(score, id, scores[0], ids[0])) {
+                scores[0] = score;
+                ids[0] = id;
+                siftDown(0);
+            }
+        }
+
+        List<Match> toList() {
+            Match[] matches = new Match[size];
+            for (int i = 0; i < size; i++) {
+                matches[i] = new Match(ids[i], scores[i]);
+            }
+            Arrays.sort(matches);
+            return List.of(matches);
+        }
+
+        private static boolean better(double score, long id, double otherScore, long otherId) {
+            return score != otherScore ? score > otherScore : id > otherId;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!better(scores[parent], ids[parent], scores[i], ids[i])) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int weakest = i;
+                for (int child = 2 * i + 1; child <= 2 * i + 2 && child < size; child++) {
+                    if (better(scores[weakest], ids[weakest], scores[child], ids[child])) {
+                        weakest = child;
+                    }
+                }
+                if (weakest == i) {
+                    return;
+                }
+                swap(i, weakest);
+                i = weakest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+        }
+    }
+
+    // Growable, ascending list of slots with the weighted term frequency in each. New
+    // documents append; a replaced one is taken out and put back at its position, which
+    // shifts the tail of the list (a replace is far rarer than a search).
+    private static final class Postings {
+        private final String term;
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(int slot, float weight) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            int at = size == 0 || slots[size - 1] < slot ? size : -Arrays.binarySearch(slots, 0, size, slot) - 1;
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            System.arraycopy(weights, at, weights, at + 1, size - at);
+            slots[at] = slot;
+            weights[at] = weight;
+            size++;
+        }
+
+        void remove(int slot) {
+            int at = Arrays.binarySearch(slots, 0, size, slot);
+            System.arraycopy(slots, at + 1, slots, at, size - at - 1);
+            System.arraycopy(weights, at + 1, weights, at, size - at - 1);
+            size--;
+        }
+
+        // Position of slot at or after from, or (-(insertion point) - 1) as Arrays.binarySearch
+        int seek(int from, int slot) {
+            int step = 1;
+            int high = from;
+            while (high < size && slots[high] < slot) {
+                from = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            return Arrays.binarySearch(slots, from, Math.min(high + 1, size), slot);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+
+import java.util.Collection;
+
+// Ranked full-text search over feedback content and AI-enhanced content.
+// Only feedback in a listed status (see FeedbackStatus.LISTED) is returned.
+public interface FeedbackTextSearch {
+
+    FeedbackSearchPage search(String query, int page, int size);
+
+    // Called after feedback was created or its text changed
+    void index(Feedback feedback);
+
+    // Called after a bulk moderation
+    void updateStatus(Collection<Long> ids, FeedbackStatus status);
+
+    // Rebuild whatever the implementation keeps next to the feedback table
+    void rebuild();
+}
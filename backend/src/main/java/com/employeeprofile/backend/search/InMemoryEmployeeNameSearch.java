@@ -0,0 +1,63 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Fallback used with embedded databases (H2) that have no trigram indexes:
+// names are indexed in process and only the matching rows are loaded by id.
+public class InMemoryEmployeeNameSearch implements EmployeeNameSearch {
+
+    private final EmployeeRepository employeeRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmployeeNameIndex index = new EmployeeNameIndex();
+
+    public InMemoryEmployeeNameSearch(EmployeeRepository employeeRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<EmployeeSummary> search(String query, int limit) {
+        List<Long> ids = index.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<EmployeeSummary> employees = new ArrayList<>(employeeRepository.findSummariesByIdIn(ids));
+        employees.sort(Comparator.comparing(employee -> positions.get(employee.id())));
+        return employees;
+    }
+
+    @Override
+    public void index(Employee employee) {
+        index.put(employee.getId(), employee.getFirstName(), employee.getLastName());
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            index.clear();
+            try (Stream<EmployeeSummary> employees = employeeRepository.streamSummaries()) {
+                employees.forEach(employee -> index.put(employee.id(), employee.firstName(), employee.lastName()));
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.dto.FeedbackDocument;
+import com.employeeprofile.backend.dto.FeedbackSearchHit;
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Fallback used with embedded databases (H2) that have no tsvector: feedback text is
+// indexed in process and only the rows of the requested page are loaded by id.
+public class InMemoryFeedbackTextSearch implements FeedbackTextSearch {
+
+    private final FeedbackRepository feedbackRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final FeedbackTextIndex index = new FeedbackTextIndex();
+
+    public InMemoryFeedbackTextSearch(FeedbackRepository feedbackRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.feedbackRepository = feedbackRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public FeedbackSearchPage search(String query, int page, int size) {
+        int offset = page * size;
+        List<FeedbackTextIndex.Match> matches = index.search(query, offset + size + 1);
+        boolean hasNext = matches.size() > offset + size;
+        List<FeedbackTextIndex.Match> window = matches.subList(Math.min(offset, matches.size()),
+                Math.min(offset + size, matches.size()));
+        if (window.isEmpty()) {
+            return new FeedbackSearchPage(List.of(), page, size, hasNext);
+        }
+
+        Map<Long, FeedbackSummary> summaries = feedbackRepository
+                .findSummariesByIdIn(window.stream().map(FeedbackTextIndex.Match::id).toList()).stream()
+                .collect(Collectors.toMap(FeedbackSummary::id, Function.identity()));
+        Set<String> terms = FeedbackTextIndex.terms(query);
+        List<FeedbackSearchHit> hits = new ArrayList<>(window.size());
+        for (FeedbackTextIndex.Match match : window) {
+            FeedbackSummary summary = summaries.get(match.id());
+            if (summary != null) {
+                hits.add(new FeedbackSearchHit(summary, match.score(),
+                        FeedbackTextIndex.highlight(summary.content(), terms),
+                        FeedbackTextIndex.highlight(summary.aiEnhancedContent(), terms)));
+            }
+        }
+        return new FeedbackSearchPage(hits, page, size, hasNext);
+    }
+
+    @Override
+    public void index(Feedback feedback) {
+        index.put(feedback.getId(), feedback.getContent(), feedback.getAiEnhancedContent(),
+                FeedbackStatus.LISTED.contains(feedback.getStatus()));
+    }
+
+    @Override
+    public void updateStatus(Collection<Long> ids, FeedbackStatus status) {
+        boolean listed = FeedbackStatus.LISTED.contains(status);
+        ids.forEach(id -> index.setListed(id, listed));
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            index.clear();
+            try (Stream<FeedbackDocument> documents = feedbackRepository.streamSearchDocuments()) {
+                documents.forEach(document -> index.put(document.id(), document.content(),
+                        document.aiEnhancedContent(), FeedbackStatus.LISTED.contains(document.status())));
+            }
+        });
+    }
+}
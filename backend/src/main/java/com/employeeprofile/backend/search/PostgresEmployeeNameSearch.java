@@ -0,0 +1,69 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.config.PostgresSchemaInitializer;
+import com.employeeprofile.backend.dto.EmployeeSummary;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// PostgreSQL search served by the pg_trgm GIN index on the lower-cased full name
+// (see PostgresSchemaInitializer) and ranked in the same query.
+public class PostgresEmployeeNameSearch implements EmployeeNameSearch {
+
+    private final EmployeeRepository employeeRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Resolved once the schema initializer has run (it creates the extension); searches
+    // arriving during startup, before that, probe on each call
+    private volatile Boolean trigramAvailable;
+
+    public PostgresEmployeeNameSearch(EmployeeRepository employeeRepository, JdbcTemplate jdbcTemplate) {
+        this.employeeRepository = employeeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<EmployeeSummary> search(String query, int limit) {
+        String normalized = EmployeeNameIndex.normalize(query);
+        return isTrigramAvailable()
+                ? employeeRepository.searchByFullName(escapeLike(normalized), normalized, limit)
+                // pg_trgm could not be installed: keep search working, just unranked
+                : employeeRepository.findByNameContaining(normalized, Limit.of(limit));
+    }
+
+    @Override
+    public void index(Employee employee) {
+        // Maintained by the database
+    }
+
+    @Override
+    public void rebuild() {
+        // Maintained by the database
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(PostgresSchemaInitializer.ORDER + 1)
+    public void resolveTrigramAvailability() {
+        trigramAvailable = probeTrigram();
+    }
+
+    private boolean isTrigramAvailable() {
+        Boolean available = trigramAvailable;
+        return available != null ? available : probeTrigram();
+    }
+
+    private boolean probeTrigram() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')", Boolean.class));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
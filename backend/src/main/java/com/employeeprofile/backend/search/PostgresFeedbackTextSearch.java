@@ -0,0 +1,99 @@
+package com.employeeprofile.backend.search;
+
+import com.employeeprofile.backend.dto.FeedbackSearchHit;
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// PostgreSQL search served by the GIN index on the generated feedback.search_vector
+// column (see PostgresSchemaInitializer): content is weighted A, AI-enhanced content B.
+// Matches are ranked with ts_rank; ts_headline runs only on the rows of the page.
+public class PostgresFeedbackTextSearch implements FeedbackTextSearch {
+
+    private static final String LISTED_STATUSES = FeedbackStatus.LISTED.stream()
+            .map(status -> "'" + status.name() + "'")
+            .collect(Collectors.joining(", "));
+
+    private static final String HEADLINE_OPTIONS = "'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15'";
+
+    private static final String SEARCH_SQL =
+            "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query), " +
+            "page AS (" +
+            "  SELECT f.id, ts_rank(f.search_vector, q.query) AS rank FROM feedback f, q " +
+            "  WHERE f.search_vector @@ q.query AND f.status IN (" + LISTED_STATUSES + ") " +
+            "  ORDER BY rank DESC, f.id DESC LIMIT ? OFFSET ?) " +
+            "SELECT page.id, page.rank, " +
+            "  ts_headline('english', " + escapeHtml("f.content") + ", q.query, " + HEADLINE_OPTIONS + ") " +
+            "    AS content_highlight, " +
+            "  CASE WHEN f.ai_enhanced_content IS NULL THEN NULL ELSE " +
+            "    ts_headline('english', " + escapeHtml("f.ai_enhanced_content") + ", q.query, " + HEADLINE_OPTIONS + ") " +
+            "  END AS ai_enhanced_content_highlight " +
+            "FROM page JOIN feedback f ON f.id = page.id CROSS JOIN q " +
+            "ORDER BY page.rank DESC, page.id DESC";
+
+    private final FeedbackRepository feedbackRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresFeedbackTextSearch(FeedbackRepository feedbackRepository, JdbcTemplate jdbcTemplate) {
+        this.feedbackRepository = feedbackRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public FeedbackSearchPage search(String query, int page, int size) {
+        List<Row> rows = jdbcTemplate.query(SEARCH_SQL,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getDouble("rank"),
+                        rs.getString("content_highlight"), rs.getString("ai_enhanced_content_highlight")),
+                query, size + 1, page * size);
+        boolean hasNext = rows.size() > size;
+        List<Row> window = hasNext ? rows.subList(0, size) : rows;
+        if (window.isEmpty()) {
+            return new FeedbackSearchPage(List.of(), page, size, false);
+        }
+
+        Map<Long, FeedbackSummary> summaries = feedbackRepository
+                .findSummariesByIdIn(window.stream().map(Row::id).toList()).stream()
+                .collect(Collectors.toMap(FeedbackSummary::id, Function.identity()));
+        List<FeedbackSearchHit> hits = new ArrayList<>(window.size());
+        for (Row row : window) {
+            FeedbackSummary summary = summaries.get(row.id());
+            if (summary != null) {
+                hits.add(new FeedbackSearchHit(summary, row.rank(), row.contentHighlight(), row.aiEnhancedContentHighlight()));
+            }
+        }
+        return new FeedbackSearchPage(hits, page, size, hasNext);
+    }
+
+    @Override
+    public void index(Feedback feedback) {
+        // Maintained by the database
+    }
+
+    @Override
+    public void updateStatus(Collection<Long> ids, FeedbackStatus status) {
+        // Maintained by the database
+    }
+
+    @Override
+    public void rebuild() {
+        // Maintained by the database
+    }
+
+    // ts_headline returns its input verbatim around the marks, so escape it first
+    private static String escapeHtml(String column) {
+        return "replace(replace(replace(" + column + ", '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+    }
+
+    private record Row(long id, double rank, String contentHighlight, String aiEnhancedContentHighlight) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.PostgresSchemaInitializer;
+import com.employeeprofile.backend.dto.AbsenceCalendarEntry;
+import com.employeeprofile.backend.dto.AbsenceTypeTotal;
+import com.employeeprofile.backend.dto.DepartmentAbsenceTotal;
+import com.employeeprofile.backend.entity.AbsenceAggregate;
+import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceType;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.AbsenceAggregateRepository;
+import com.employeeprofile.backend.repository.AbsenceRequestRepository;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Absence day totals per employee, absence type and calendar month, so leave balances
+// and department reports read a handful of aggregate rows instead of every request.
+// Requests spanning several months contribute to each month by the days falling into it.
+@Service
+@Transactional
+public class AbsenceAggregateService {
+
+    private static final Logger log = LoggerFactory.getLogger(AbsenceAggregateService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO absence_aggregates " +
+            "(employee_id, department, absence_type, period_year, period_month, days, requests) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    // Adds to the row of an (employee, type, month) key, creating it if needed, in one
+    // statement: two requests for a new key at the same time must not both try to insert it.
+    // H2's MERGE can still lose that race (see upsert), PostgreSQL's ON CONFLICT cannot.
+    private static final String POSTGRES_UPSERT_SQL = "INSERT INTO absence_aggregates " +
+            "(employee_id, department, absence_type, period_year, period_month, days, requests) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (employee_id, absence_type, period_year, period_month) DO UPDATE SET " +
+            "days = absence_aggregates.days + EXCLUDED.days, " +
+            "requests = absence_aggregates.requests + EXCLUDED.requests, department = EXCLUDED.department";
+    private static final String H2_UPSERT_SQL = "MERGE INTO absence_aggregates g USING (VALUES (" +
+            "CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), CAST(? AS INTEGER), " +
+            "CAST(? AS INTEGER), CAST(? AS BIGINT), CAST(? AS BIGINT))) " +
+            "AS s(employee_id, department, absence_type, period_year, period_month, days, requests) " +
+            "ON g.employee_id = s.employee_id AND g.absence_type = s.absence_type " +
+            "AND g.period_year = s.period_year AND g.period_month = s.period_month " +
+            "WHEN MATCHED THEN UPDATE SET days = g.days + s.days, requests = g.requests + s.requests, " +
+            "department = s.department " +
+            "WHEN NOT MATCHED THEN INSERT (employee_id, department, absence_type, period_year, period_month, " +
+            "days, requests) VALUES (s.employee_id, s.department, s.absence_type, s.period_year, s.period_month, " +
+            "s.days, s.requests)";
+
+    @Autowired
+    private AbsenceAggregateRepository absenceAggregateRepository;
+
+    @Autowired
+    private AbsenceRequestRepository absenceRequestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+
+    // Adds a newly created request, in the transaction that created it
+    public void add(AbsenceRequest request) {
+        Employee employee = findEmployee(request);
+        String upsert = datasourceUrl.startsWith("jdbc:postgresql:") ? POSTGRES_UPSERT_SQL : H2_UPSERT_SQL;
+        YearMonth firstMonth = YearMonth.from(request.getStartDate());
+        forEachMonth(request.getStartDate(), request.getEndDate(), (month, days) ->
+                upsert(upsert, employee.getId(), employee.getDepartment(),
+                        request.getAbsenceType().name(), month.getYear(), month.getMonthValue(), days,
+                        month.equals(firstMonth) ? 1 : 0));
+    }
+
+    // A MERGE that lost the insert race to a concurrent transaction fails on the unique key;
+    // the row exists now, so running it again updates it. Only H2 gets here: a failed statement
+    // does not abort its transaction there, unlike on PostgreSQL, which needs no retry.
+    private void upsert(String sql, Object... args) {
+        try {
+            jdbcTemplate.update(sql, args);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(sql, args);
+        }
+    }
+
+    // Takes out a request that was rejected or cancelled; its rows exist since it was added
+    public void remove(AbsenceRequest request) {
+        Employee employee = findEmployee(request);
+        YearMonth firstMonth = YearMonth.from(request.getStartDate());
+        forEachMonth(request.getStartDate(), request.getEndDate(), (month, days) ->
+                absenceAggregateRepository.increment(employee.getId(), employee.getDepartment(),
+                        request.getAbsenceType(), month.getYear(), month.getMonthValue(), -days,
+                        month.equals(firstMonth) ? -1 : 0));
+    }
+
+    private Employee findEmployee(AbsenceRequest request) {
+        return employeeRepository.findById(request.getEmployee().getId())
+                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + request.getEmployee().getId()));
+    }
+
+    // First start with existing absence data (or after the table was dropped): build from scratch,
+    // after the schema initializer has backfilled the status of requests older than the workflow
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(PostgresSchemaInitializer.ORDER + 1)
+    public void initialize() {
+        if (absenceAggregateRepository.count() == 0 && absenceRequestRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    // Recomputes every aggregate from the absence requests in one pass; returns the row count
+    public int rebuild() {
+        long start = System.nanoTime();
+        Map<Key, long[]> totals = new HashMap<>();
+        try (Stream<AbsenceCalendarEntry> absences = absenceRequestRepository.streamCalendarEntries()) {
+            absences.forEach(absence -> {
+                YearMonth firstMonth = YearMonth.from(absence.startDate());
+                forEachMonth(absence.startDate(), absence.endDate(), (month, days) -> {
+                    long[] total = totals.computeIfAbsent(new Key(absence.employeeId(), absence.department(),
+                            absence.absenceType(), month), key -> new long[2]);
+                    total[0] += days;
+                    total[1] += month.equals(firstMonth) ? 1 : 0;
+                });
+            });
+        }
+
+        absenceAggregateRepository.deleteAllInBatch();
+        List<Object[]> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> rows.add(new Object[]{key.employeeId(), key.department(),
+                key.absenceType().name(), key.month().getYear(), key.month().getMonthValue(), total[0], total[1]}));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        log.info("Rebuilt {} absence aggregates in {} ms", rows.size(), (System.nanoTime() - start) / 1_000_000);
+        return rows.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AbsenceAggregate> getEmployeeAggregates(Long employeeId, int year) {
+        return absenceAggregateRepository.findByEmployeeIdAndYearOrderByMonthAscAbsenceTypeAsc(employeeId, year);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DepartmentAbsenceTotal> getDepartmentTotals(int year, Integer month) {
+        return absenceAggregateRepository.sumByDepartment(year, month);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AbsenceTypeTotal> getTypeTotals(int year, Integer month, String department) {
+        return absenceAggregateRepository.sumByType(year, month, department);
+    }
+
+    // Splits [start, end] into calendar months with the number of days in each
+    private static void forEachMonth(LocalDate start, LocalDate end, MonthConsumer consumer) {
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(YearMonth.from(end)); month = month.plusMonths(1)) {
+            LocalDate from = start.isAfter(month.atDay(1)) ? start : month.atDay(1);
+            LocalDate to = end.isBefore(month.atEndOfMonth()) ? end : month.atEndOfMonth();
+            consumer.accept(month, ChronoUnit.DAYS.between(from, to) + 1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MonthConsumer {
+        void accept(YearMonth month, long days);
+    }
+
+    private record Key(Long employeeId, String department, AbsenceType absenceType, YearMonth month) {
+    }
+}
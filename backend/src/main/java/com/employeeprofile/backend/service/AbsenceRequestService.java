@@ -1,30 +1,214 @@
 package com.employeeprofile.backend.service;
 
+import com.employeeprofile.backend.config.MetricsConfig;
+import com.employeeprofile.backend.dto.AbsenceCalendar;
+import com.employeeprofile.backend.dto.AbsenceCalendarEntry;
+import com.employeeprofile.backend.dto.AbsenceQueuePage;
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.AbsenceReview;
+import com.employeeprofile.backend.dto.AbsenceStatusChange;
 import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceStatus;
+import com.employeeprofile.backend.entity.AbsenceType;
 import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.EmployeeRole;
 import com.employeeprofile.backend.repository.AbsenceRequestRepository;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class AbsenceRequestService {
 
+    public static final int MAX_CALENDAR_DAYS = 366;
+    public static final int DEFAULT_QUEUE_PAGE_SIZE = 50;
+    public static final int MAX_QUEUE_PAGE_SIZE = 200;
+    public static final int MAX_REVIEW_BATCH = 100;
+
     @Autowired
     private AbsenceRequestRepository absenceRequestRepository;
 
+    @Autowired
+    private AbsenceAggregateService absenceAggregateService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Transactional(readOnly = true)
     public List<AbsenceRequest> getAllAbsenceRequests() {
         return absenceRequestRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<AbsenceRequestSummary> getAllAbsenceRequestSummaries() {
+        return absenceRequestRepository.findAllSummaries();
+    }
+
+    // New requests always start pending, whatever the client sent
     public AbsenceRequest createAbsenceRequest(AbsenceRequest absenceRequest) {
-        return absenceRequestRepository.save(absenceRequest);
+        // Clients may send just {"id": ...}; a detached Employee without its version cannot be referenced
+        Long employeeId = absenceRequest.getEmployee() != null ? absenceRequest.getEmployee().getId() : null;
+        if (employeeId == null) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+        absenceRequest.setEmployee(employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + employeeId)));
+        absenceRequest.setStatus(AbsenceStatus.PENDING);
+        absenceRequest.setReviewer(null);
+        absenceRequest.setReviewedAt(null);
+        absenceRequest.setVersion(null);
+        AbsenceRequest savedRequest = absenceRequestRepository.save(absenceRequest);
+        absenceAggregateService.add(savedRequest);
+        return savedRequest;
     }
 
+    @Transactional(readOnly = true)
     public List<AbsenceRequest> getAbsenceRequestsForEmployee(Employee employee) {
         return absenceRequestRepository.findByEmployeeOrderByCreatedAtDesc(employee);
     }
+
+    @Transactional(readOnly = true)
+    public List<AbsenceRequestSummary> getAbsenceRequestSummariesForEmployee(Long employeeId) {
+        return absenceRequestRepository.findSummariesByEmployeeId(employeeId);
+    }
+
+    // The employee's latest requests, newest first, at most limit
+    @Transactional(readOnly = true)
+    public List<AbsenceRequestSummary> getRecentAbsenceRequestSummaries(Long employeeId, int limit) {
+        return absenceRequestRepository.findSummariesByEmployeeId(employeeId, Limit.of(limit));
+    }
+
+    // Who is out on each day of [from, to]. One indexed range query; the per-day
+    // occupancy is computed in memory over the (few) overlapping absences.
+    @Transactional(readOnly = true)
+    public AbsenceCalendar getCalendar(LocalDate from, LocalDate to, String department, AbsenceType absenceType) {
+        long dayCount = ChronoUnit.DAYS.between(from, to) + 1;
+        if (dayCount < 1 || dayCount > MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Calendar range must cover 1 to " + MAX_CALENDAR_DAYS + " days");
+        }
+        List<AbsenceCalendarEntry> absences =
+                absenceRequestRepository.findCalendarEntries(from, to, department, absenceType);
+
+        List<List<Integer>> absencesByDay = new ArrayList<>((int) dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            absencesByDay.add(new ArrayList<>());
+        }
+        for (int index = 0; index < absences.size(); index++) {
+            AbsenceCalendarEntry absence = absences.get(index);
+            long first = Math.max(0, ChronoUnit.DAYS.between(from, absence.startDate()));
+            long last = Math.min(dayCount - 1, ChronoUnit.DAYS.between(from, absence.endDate()));
+            for (long day = first; day <= last; day++) {
+                absencesByDay.get((int) day).add(index);
+            }
+        }
+
+        List<AbsenceCalendar.Day> days = new ArrayList<>((int) dayCount);
+        for (int day = 0; day < dayCount; day++) {
+            List<Integer> indexes = absencesByDay.get(day);
+            days.add(new AbsenceCalendar.Day(from.plusDays(day), indexes.size(), indexes));
+        }
+        return new AbsenceCalendar(from, to, absences, days);
+    }
+
+    // Pending requests, oldest first (keyset pagination on id)
+    @Transactional(readOnly = true)
+    public AbsenceQueuePage getApprovalQueue(String department, Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_QUEUE_PAGE_SIZE));
+        List<AbsenceRequestSummary> requests = absenceRequestRepository.findPendingSummaries(
+                after != null ? after : 0L, department, Limit.of(pageSize + 1));
+
+        if (requests.size() <= pageSize) {
+            return new AbsenceQueuePage(requests, null);
+        }
+        List<AbsenceRequestSummary> items = requests.subList(0, pageSize);
+        return new AbsenceQueuePage(items, items.get(pageSize - 1).id());
+    }
+
+    // Approves or rejects a batch of requests, all or nothing. Requests that were changed
+    // since the manager loaded them (version mismatch, or no longer pending) fail the whole
+    // batch with OptimisticLockingFailureException; so does a concurrent review committing
+    // first, through the @Version check on flush.
+    public List<AbsenceStatusChange> review(AbsenceReview review, AbsenceStatus decision) {
+        if (decision != AbsenceStatus.APPROVED && decision != AbsenceStatus.REJECTED) {
+            throw new IllegalArgumentException("A review either approves or rejects");
+        }
+        if (review.items() == null || review.items().isEmpty() || review.items().size() > MAX_REVIEW_BATCH) {
+            throw new IllegalArgumentException("Review between 1 and " + MAX_REVIEW_BATCH + " requests at a time");
+        }
+        Employee reviewer = employeeRepository.findById(review.reviewerId())
+                .orElseThrow(() -> new IllegalArgumentException("Reviewer not found with id: " + review.reviewerId()));
+        if (reviewer.getRole() != EmployeeRole.MANAGER) {
+            throw new IllegalArgumentException("Only managers can review absence requests");
+        }
+
+        Map<Long, Long> expectedVersions = new HashMap<>();
+        review.items().forEach(item -> expectedVersions.put(item.id(), item.version()));
+        List<AbsenceRequest> requests = absenceRequestRepository.findAllById(expectedVersions.keySet());
+        if (requests.size() != expectedVersions.size()) {
+            throw new IllegalArgumentException("Some absence requests do not exist");
+        }
+        List<Long> conflicts = requests.stream()
+                .filter(request -> !request.getStatus().canTransitionTo(decision)
+                        || !isExpectedVersion(request, expectedVersions.get(request.getId())))
+                .map(AbsenceRequest::getId)
+                .sorted()
+                .toList();
+        if (!conflicts.isEmpty()) {
+            throw new OptimisticLockingFailureException("Absence requests changed since they were loaded: " + conflicts);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (AbsenceRequest request : requests) {
+            request.setStatus(decision);
+            request.setReviewer(reviewer);
+            request.setReviewedAt(now);
+        }
+        return applyTransitions(requests);
+    }
+
+    // Withdraws a pending or approved request
+    public AbsenceStatusChange cancel(Long id, Long expectedVersion) {
+        AbsenceRequest request = absenceRequestRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Absence request not found with id: " + id));
+        if (!request.getStatus().canTransitionTo(AbsenceStatus.CANCELLED) || !isExpectedVersion(request, expectedVersion)) {
+            throw new OptimisticLockingFailureException("Absence request changed since it was loaded: " + id);
+        }
+        request.setStatus(AbsenceStatus.CANCELLED);
+        return applyTransitions(List.of(request)).get(0);
+    }
+
+    // Writes the new states (the version check happens here), then takes withdrawn
+    // requests out of the aggregates. The aggregate updates clear the persistence
+    // context, so they must come after the flush.
+    private List<AbsenceStatusChange> applyTransitions(List<AbsenceRequest> requests) {
+        absenceRequestRepository.flush();
+        List<AbsenceStatusChange> changes = requests.stream()
+                .map(request -> new AbsenceStatusChange(request.getId(), request.getStatus(), request.getVersion()))
+                .toList();
+        for (AbsenceRequest request : requests) {
+            if (AbsenceStatus.WITHDRAWN.contains(request.getStatus())) {
+                absenceAggregateService.remove(request);
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isExpectedVersion(AbsenceRequest request, Long expectedVersion) {
+        return expectedVersion == null || Objects.equals(expectedVersion, request.getVersion());
+    }
 }
@@ -0,0 +1,99 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.repository.AbsenceRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Moves approved absences to IN_PROGRESS on their start date and to COMPLETED once the
+// end date has passed. Both steps are single UPDATE statements in one transaction.
+// On PostgreSQL the transaction first takes a transaction-scoped advisory lock, so when
+// several backend instances share the database only one of them runs the transitions;
+// the others skip the run. The embedded database is never shared, so no lock is taken.
+@Component
+@ConditionalOnProperty(name = "absence.status.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class AbsenceStatusScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AbsenceStatusScheduler.class);
+
+    // Arbitrary application-wide key for pg_try_advisory_xact_lock
+    static final long ADVISORY_LOCK_KEY = 0x4162_7365_6e63_6501L;
+
+    private final AbsenceRequestRepository absenceRequestRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgres;
+
+    private final Timer runs;
+    private final Counter started;
+    private final Counter completed;
+    private final Counter skipped;
+
+    public AbsenceStatusScheduler(AbsenceRequestRepository absenceRequestRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.absenceRequestRepository = absenceRequestRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postgres = datasourceUrl.startsWith("jdbc:postgresql:");
+
+        this.runs = Timer.builder("absence.status.scheduler.runs")
+                .description("Duration of scheduled absence status transitions")
+                .register(meterRegistry);
+        this.started = Counter.builder("absence.status.transitions")
+                .description("Absence requests moved by the scheduler")
+                .tag("to", "IN_PROGRESS")
+                .register(meterRegistry);
+        this.completed = Counter.builder("absence.status.transitions")
+                .description("Absence requests moved by the scheduler")
+                .tag("to", "COMPLETED")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("absence.status.scheduler.skipped")
+                .description("Runs skipped because another instance held the lock")
+                .register(meterRegistry);
+    }
+
+    // Hourly by default, so a missed run (restart, deploy) is caught up the same day
+    @Scheduled(cron = "${absence.status.scheduler.cron:0 5 * * * *}")
+    public void run() {
+        TransitionResult result = runs.record(() -> transition(LocalDate.now()));
+        if (result == null) {
+            skipped.increment();
+            log.debug("Absence status transitions skipped: lock held by another instance");
+        } else if (result.started() > 0 || result.completed() > 0) {
+            log.info("Absence status transitions: {} started, {} completed", result.started(), result.completed());
+        }
+    }
+
+    // Returns null when another instance holds the lock
+    TransitionResult transition(LocalDate today) {
+        return transactionTemplate.execute(status -> {
+            if (postgres && !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, ADVISORY_LOCK_KEY))) {
+                return null;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            int completedRows = absenceRequestRepository.completeEndedBefore(today, now);
+            int startedRows = absenceRequestRepository.startActiveOn(today, now);
+            completed.increment(completedRows);
+            started.increment(startedRows);
+            return new TransitionResult(startedRows, completedRows);
+        });
+    }
+
+    record TransitionResult(int started, int completed) {
+    }
+}
@@ -0,0 +1,216 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.AsyncConfig;
+import com.employeeprofile.backend.dto.BackfillStatus;
+import com.employeeprofile.backend.dto.BackfillStatus.State;
+import com.employeeprofile.backend.dto.BatchEnhancementResult;
+import com.employeeprofile.backend.dto.PendingEnhancement;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Batch AI enhancement and the background backfill of historical feedback.
+// Upstream calls run on the aiBatchExecutor (bounded parallelism) with retry and
+// exponential backoff; the backfill writes results back one chunk per transaction.
+@Service
+public class AiEnhancementBatchService {
+
+    public static final int MAX_BATCH_SIZE = 50;
+
+    private static final Logger log = LoggerFactory.getLogger(AiEnhancementBatchService.class);
+    private static final int MAX_ENHANCED_LENGTH = 3000;
+
+    private final AiEnhancementService aiEnhancementService;
+    private final FeedbackService feedbackService;
+    private final FeedbackRepository feedbackRepository;
+    private final ThreadPoolTaskExecutor batchExecutor;
+    private final ExecutorService backfillRunner =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ai-backfill"));
+
+    private final int chunkSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    // Backfill progress, read by the status endpoint and the gauges
+    private volatile State state = State.IDLE;
+    private volatile long pendingAtStart;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AiEnhancementBatchService(AiEnhancementService aiEnhancementService,
+                                     FeedbackService feedbackService,
+                                     FeedbackRepository feedbackRepository,
+                                     @Qualifier(AsyncConfig.AI_BATCH_EXECUTOR) ThreadPoolTaskExecutor batchExecutor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${ai.enhancement.backfill.chunk-size:50}") int chunkSize,
+                                     @Value("${ai.enhancement.batch.max-attempts:3}") int maxAttempts,
+                                     @Value("${ai.enhancement.batch.initial-backoff:1s}") Duration initialBackoff) {
+        this.aiEnhancementService = aiEnhancementService;
+        this.feedbackService = feedbackService;
+        this.feedbackRepository = feedbackRepository;
+        this.batchExecutor = batchExecutor;
+        this.chunkSize = chunkSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+
+        Gauge.builder("ai.enhancement.backfill.processed", () -> succeeded.get() + failed.get())
+                .description("Feedback rows processed by the current or last backfill")
+                .register(meterRegistry);
+        Gauge.builder("ai.enhancement.backfill.failed", failed::get)
+                .register(meterRegistry);
+        Gauge.builder("ai.enhancement.backfill.rows.per.second", () -> getBackfillStatus().rowsPerSecond())
+                .register(meterRegistry);
+    }
+
+    // Enhances every text with bounded parallelism; one failing text does not fail the batch
+    public CompletableFuture<List<BatchEnhancementResult>> enhanceAll(List<String> texts) {
+        if (texts.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " texts per batch");
+        }
+        List<CompletableFuture<BatchEnhancementResult>> results = new ArrayList<>(texts.size());
+        try {
+            for (String text : texts) {
+                results.add(CompletableFuture.supplyAsync(() -> enhanceOne(text), batchExecutor));
+            }
+        } catch (TaskRejectedException e) {
+            // The batch is refused as a whole: texts still queued are withdrawn so they never
+            // reach upstream (a cancelled task skips its work); running ones just finish
+            results.forEach(result -> result.cancel(false));
+            throw e;
+        }
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(done -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    // Starts the backfill; only one may run at a time
+    public synchronized BackfillStatus startBackfill() {
+        if (state == State.RUNNING || state == State.CANCELLING) {
+            throw new IllegalStateException("AI enhancement backfill is already running");
+        }
+        succeeded.set(0);
+        failed.set(0);
+        pendingAtStart = feedbackRepository.countPendingEnhancements();
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        state = State.RUNNING;
+        backfillRunner.execute(this::runBackfill);
+        return getBackfillStatus();
+    }
+
+    public synchronized BackfillStatus cancelBackfill() {
+        if (state == State.RUNNING) {
+            state = State.CANCELLING;
+        }
+        return getBackfillStatus();
+    }
+
+    public BackfillStatus getBackfillStatus() {
+        long ok = succeeded.get();
+        long ko = failed.get();
+        double rowsPerSecond = 0;
+        if (startedAt != null) {
+            LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+            double seconds = Duration.between(startedAt, end).toMillis() / 1000.0;
+            rowsPerSecond = seconds > 0 ? (ok + ko) / seconds : 0;
+        }
+        return new BackfillStatus(state, pendingAtStart, ok + ko, ok, ko, rowsPerSecond, startedAt, finishedAt);
+    }
+
+    private void runBackfill() {
+        try {
+            long afterId = 0;
+            while (state == State.RUNNING) {
+                List<PendingEnhancement> chunk = feedbackRepository.findPendingEnhancements(afterId, Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                processChunk(chunk);
+                afterId = chunk.get(chunk.size() - 1).id();
+            }
+            finish(state == State.CANCELLING ? State.CANCELLED : State.COMPLETED);
+        } catch (RuntimeException e) {
+            log.error("AI enhancement backfill failed", e);
+            finish(State.FAILED);
+        }
+    }
+
+    private void processChunk(List<PendingEnhancement> chunk) {
+        List<CompletableFuture<BatchEnhancementResult>> calls = chunk.stream()
+                .map(pending -> CompletableFuture.supplyAsync(() -> enhanceOne(pending.content()), batchExecutor))
+                .toList();
+
+        Map<Long, String> enhancedById = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            BatchEnhancementResult result = calls.get(i).join();
+            if (result.error() == null) {
+                enhancedById.put(chunk.get(i).id(), truncate(result.enhancedText()));
+            } else {
+                failed.incrementAndGet();
+            }
+        }
+        if (!enhancedById.isEmpty()) {
+            feedbackService.applyAiEnhancements(enhancedById);
+            succeeded.addAndGet(enhancedById.size());
+        }
+    }
+
+    private BatchEnhancementResult enhanceOne(String text) {
+        long backoffMillis = initialBackoff.toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return new BatchEnhancementResult(text, aiEnhancementService.enhance(text), null);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    return new BatchEnhancementResult(text, null, e.getMessage());
+                }
+            }
+            try {
+                // Exponential backoff with jitter so parallel retries do not line up
+                Thread.sleep(backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new BatchEnhancementResult(text, null, "Interrupted");
+            }
+            backoffMillis *= 2;
+        }
+    }
+
+    private synchronized void finish(State finalState) {
+        finishedAt = LocalDateTime.now();
+        state = finalState;
+        log.info("AI enhancement backfill {}: {}", finalState, getBackfillStatus());
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= MAX_ENHANCED_LENGTH ? text : text.substring(0, MAX_ENHANCED_LENGTH);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cancelBackfill();
+        backfillRunner.shutdown();
+    }
+}
@@ -0,0 +1,237 @@
+package com.employeeprofile.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Content-addressed cache of AI enhancement results.
+// The key is the SHA-256 of the request parameters and the normalized input text, so
+// repeated clicks on the same (or whitespace-edited) draft never reach the upstream
+// model twice. Entries live in a size/TTL-bounded Caffeine cache and, optionally,
+// in the ai_enhancement_cache table so they survive restarts. A stored entry is fresh for
+// the TTL after it was last written; expired rows are purged on a schedule.
+@Component
+public class AiEnhancementCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AiEnhancementCache.class);
+
+    // Writing an entry again (after it expired) must also restart its TTL. created_at is the
+    // JVM's time, the clock freshness and purge compare against: the database's LOCALTIMESTAMP
+    // is in its own time zone, which may differ from the JVM's by hours.
+    private static final String POSTGRES_UPSERT_SQL = "INSERT INTO ai_enhancement_cache " +
+            "(cache_key, enhanced_text, upstream_millis, created_at) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (cache_key) DO UPDATE SET enhanced_text = EXCLUDED.enhanced_text, " +
+            "upstream_millis = EXCLUDED.upstream_millis, created_at = EXCLUDED.created_at";
+    private static final String H2_UPSERT_SQL = "MERGE INTO ai_enhancement_cache " +
+            "(cache_key, enhanced_text, upstream_millis, created_at) KEY (cache_key) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final boolean persistent;
+    private final Duration ttl;
+    private final AsyncCache<String, CachedEnhancement> cache;
+    private final ConcurrentStatsCounter stats = new ConcurrentStatsCounter();
+
+    private final Timer upstreamLatency;
+    private final Timer upstreamFailures;
+    private final Counter persistentHits;
+    private final Counter latencySaved;
+
+    public AiEnhancementCache(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai.enhancement.cache.maximum-size:5000}") long maximumSize,
+                              @Value("${ai.enhancement.cache.ttl:24h}") Duration ttl,
+                              @Value("${ai.enhancement.cache.persistent:false}") boolean persistent,
+                              @Value("${spring.datasource.url:}") String datasourceUrl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = datasourceUrl.startsWith("jdbc:postgresql:");
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> stats)
+                .buildAsync();
+        // Same tag keys as the Spring-managed caches: Prometheus drops meters whose tag keys
+        // differ from an already registered meter of the same name
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "aiEnhancements",
+                "cache.manager", "aiEnhancementCache", "name", "aiEnhancements");
+
+        // Outbound AI calls that reach the model, by outcome: the failure count is the error
+        // rate, and a histogram on both makes timeouts visible next to normal latency
+        this.upstreamLatency = Timer.builder("ai.enhancement.upstream")
+                .description("Latency of upstream AI enhancement calls")
+                .tag("outcome", "success")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.upstreamFailures = Timer.builder("ai.enhancement.upstream")
+                .description("Latency of upstream AI enhancement calls")
+                .tag("outcome", "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.persistentHits = Counter.builder("ai.enhancement.cache.persistent.hits")
+                .description("Enhancements served from the ai_enhancement_cache table")
+                .register(meterRegistry);
+        this.latencySaved = Counter.builder("ai.enhancement.cache.latency.saved")
+                .description("Upstream latency avoided by cache hits")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public static String key(String parameters, String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(parameters.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(normalize(text).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Cached result only, without calling upstream. Callers go on to get() after a miss, so
+    // the lookup itself is quiet and only a hit is counted: every request is one hit or one miss.
+    public Optional<String> find(String key) {
+        CompletableFuture<CachedEnhancement> future = cache.asMap().get(key);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        stats.recordHits(1);
+        CachedEnhancement cached = future.join();
+        latencySaved.increment(cached.upstreamMillis() / 1000.0);
+        return Optional.of(cached.text());
+    }
+
+    // Cached result, or the upstream result (cached afterwards). Concurrent calls with the
+    // same key share one upstream call; failures are not cached. The upstream call runs on
+    // the caller's thread outside the cache's map lock (a slow model answer must not stall
+    // other keys, nor pin a virtual thread's carrier); other callers wait on its future.
+    public String get(String key, Supplier<String> upstream) {
+        CompletableFuture<CachedEnhancement> loading = new CompletableFuture<>();
+        CompletableFuture<CachedEnhancement> result = cache.get(key, (k, executor) -> loading);
+        if (result == loading) {
+            try {
+                loading.complete(load(key, upstream));
+            } catch (Throwable e) {
+                // Whatever the failure (an Error too), the future must complete or every later
+                // caller for the key would wait on it forever. The cache drops a failed future,
+                // so the next call tries again.
+                loading.completeExceptionally(e);
+            }
+        }
+        CachedEnhancement enhancement;
+        try {
+            enhancement = result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (result != loading) {
+            latencySaved.increment(enhancement.upstreamMillis() / 1000.0);
+        }
+        return enhancement.text();
+    }
+
+    private CachedEnhancement load(String key, Supplier<String> upstream) {
+        if (persistent) {
+            Optional<CachedEnhancement> stored = findPersisted(key);
+            if (stored.isPresent()) {
+                persistentHits.increment();
+                latencySaved.increment(stored.get().upstreamMillis() / 1000.0);
+                return stored.get();
+            }
+        }
+
+        long start = System.nanoTime();
+        String text;
+        try {
+            text = upstream.get();
+        } catch (RuntimeException | Error e) {
+            upstreamFailures.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        upstreamLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        CachedEnhancement enhancement = new CachedEnhancement(text, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        if (persistent) {
+            persist(key, enhancement);
+        }
+        return enhancement;
+    }
+
+    private Optional<CachedEnhancement> findPersisted(String key) {
+        try {
+            List<CachedEnhancement> stored = jdbcTemplate.query("SELECT enhanced_text, upstream_millis " +
+                            "FROM ai_enhancement_cache WHERE cache_key = ? AND created_at > ?",
+                    (rs, rowNum) -> new CachedEnhancement(rs.getString(1), rs.getLong(2)),
+                    key, LocalDateTime.now().minus(ttl));
+            return stored.stream().findFirst();
+        } catch (DataAccessException e) {
+            log.warn("AI enhancement cache lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void persist(String key, CachedEnhancement enhancement) {
+        try {
+            jdbcTemplate.update(postgres ? POSTGRES_UPSERT_SQL : H2_UPSERT_SQL,
+                    key, enhancement.text(), enhancement.upstreamMillis(), LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("AI enhancement cache write failed: {}", e.getMessage());
+        }
+    }
+
+    // Expired rows are never read again; without this the table only grows
+    @Scheduled(fixedDelayString = "${ai.enhancement.cache.purge-interval:1h}")
+    public void purgeExpired() {
+        if (!persistent) {
+            return;
+        }
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM ai_enhancement_cache WHERE created_at <= ?",
+                    LocalDateTime.now().minus(ttl));
+            if (purged > 0) {
+                log.info("Purged {} expired AI enhancement cache entries", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("AI enhancement cache purge failed: {}", e.getMessage());
+        }
+    }
+
+    // Unicode-normalized, trimmed, with runs of whitespace collapsed
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).strip().replaceAll("\\s+", " ");
+    }
+
+    private record CachedEnhancement(String text, long upstreamMillis) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.AsyncConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+// Calls OpenRouter to rewrite feedback text. Deliberately not transactional:
+// no database connection is held while waiting on the upstream model.
+@Service
+public class AiEnhancementService {
+
+    private static final String MODEL = "mistralai/mistral-7b-instruct:free";  // Free model
+    private static final String PROMPT = "Please rewrite this feedback in a more professional and constructive way: \"%s\"";
+    private static final int MAX_TOKENS = 150;
+    private static final double TEMPERATURE = 0.7;
+
+    // Formatting tags some models wrap around their answer
+    private static final Pattern FORMATTING_TAGS = Pattern.compile("<.*?>");
+
+    // Everything besides the text that determines the model's answer
+    private static final String CACHE_PARAMETERS = MODEL + "|" + PROMPT + "|" + MAX_TOKENS + "|" + TEMPERATURE;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private AiEnhancementCache cache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${openrouter.api.token:}")
+    private String openRouterToken;
+
+    @Value("${openrouter.api.url:https://openrouter.ai/api/v1/chat/completions}")
+    private String openRouterApiUrl;
+
+    // Runs on the bounded AI executor; throws TaskRejectedException when it is saturated
+    @Async(AsyncConfig.AI_ENHANCEMENT_EXECUTOR)
+    public CompletableFuture<String> enhanceAsync(String originalText) {
+        return CompletableFuture.completedFuture(enhance(originalText));
+    }
+
+    // Previously computed enhancement of the same text, if any
+    public Optional<String> findCached(String originalText) {
+        return cache.find(AiEnhancementCache.key(CACHE_PARAMETERS, originalText));
+    }
+
+    public String enhance(String originalText) {
+        return cache.get(AiEnhancementCache.key(CACHE_PARAMETERS, originalText), () -> requestEnhancement(originalText));
+    }
+
+    private String requestEnhancement(String originalText) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + openRouterToken);
+            headers.set("Content-Type", "application/json");
+            headers.set("HTTP-Referer", "http://localhost:8080");
+            headers.set("X-Title", "Employee Feedback Enhancement");
+
+            Map<String, Object> requestBody = Map.of(
+                "model", MODEL,
+                "messages", List.of(
+                    Map.of(
+                        "role", "user",
+                        "content", String.format(PROMPT, originalText)
+                    )
+                ),
+                "max_tokens", MAX_TOKENS,
+                "temperature", TEMPERATURE
+            );
+
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+            ResponseEntity<String> response = restTemplate.exchange(
+                openRouterApiUrl,
+                HttpMethod.POST,
+                entity,
+                String.class
+            );
+
+            return extractEnhancedText(response.getBody());
+
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to enhance text with AI: " + e.getMessage());
+        }
+    }
+
+    // Pulls the model's answer out of a chat completion response
+    String extractEnhancedText(String responseBody) throws IOException {
+        JsonNode jsonResponse = objectMapper.readTree(responseBody);
+
+        String enhancedText = jsonResponse.get("choices").get(0).get("message").get("content").asText().trim();
+
+        // Remove unwanted formatting tags
+        return FORMATTING_TAGS.matcher(enhancedText).replaceAll("");
+    }
+}
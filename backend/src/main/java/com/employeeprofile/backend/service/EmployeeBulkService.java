@@ -0,0 +1,386 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.CacheConfig;
+import com.employeeprofile.backend.dto.ImportResult;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.EmployeeRole;
+import com.employeeprofile.backend.entity.EmploymentType;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+// Bulk employee import and export in CSV or NDJSON.
+// Imports bypass the persistence context: rows are validated against the entity's Bean
+// Validation constraints and written with JDBC batch inserts, one transaction per batch
+// (with reWriteBatchedInserts the PostgreSQL driver sends each batch as multi-row INSERTs).
+// Exports stream rows off a JDBC cursor, so neither direction holds the file in memory.
+@Service
+public class EmployeeBulkService {
+
+    public enum Format { CSV, NDJSON }
+
+    // Column order of CSV exports; imports match columns by header name
+    static final List<String> COLUMNS = List.of("employeeId", "firstName", "lastName", "email", "phoneNumber",
+            "address", "position", "department", "hireDate", "employmentType", "role", "salary", "bio", "skills",
+            "profilePictureUrl");
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeBulkService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO employees (employee_id, first_name, last_name, email, " +
+            "phone_number, address, position, department, hire_date, employment_type, role, salary, bio, skills, " +
+            "profile_picture_url, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, LOCALTIMESTAMP)";
+
+    private static final String EXPORT_SQL = "SELECT id, employee_id, first_name, last_name, email, phone_number, " +
+            "address, position, department, hire_date, employment_type, role, salary, bio, skills, " +
+            "profile_picture_url FROM employees ORDER BY id";
+
+    // Two index lookups; an OR across both columns ends up scanning the table
+    private static final String EXISTING_KEYS_SQL =
+            "SELECT employee_id AS unique_key FROM employees WHERE employee_id IN (:employeeIds) " +
+            "UNION ALL SELECT email FROM employees WHERE email IN (:emails)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeNameSearch employeeNameSearch;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${employee.import.batch-size:1000}")
+    private int batchSize;
+
+    public ImportResult importEmployees(InputStream input, Format format) throws IOException {
+        long start = System.nanoTime();
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, run);
+        } else {
+            readNdjson(reader, run);
+        }
+        run.flush();
+
+        if (run.imported > 0) {
+            employeeNameSearch.rebuild();
+            // JDBC inserts bypass Hibernate, so cached employee query results would miss the new rows
+            // (the entity region is unaffected: it only holds rows that already existed)
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheConfig.EMPLOYEE_QUERY_REGION);
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        ImportResult result = new ImportResult(run.rowsRead, run.imported, run.rejected, run.errors, elapsedMillis,
+                run.rowsRead * 1000.0 / elapsedMillis);
+        log.info("Employee import: {} rows read, {} imported, {} rejected in {} ms ({} rows/s)",
+                result.rowsRead(), result.imported(), result.rejected(), elapsedMillis,
+                Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    // Writes every employee in id order; returns the number of rows written
+    @Transactional(readOnly = true)
+    public long exportEmployees(OutputStream output, Format format) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+        long[] rows = {0};
+        streamEmployees(employee -> {
+            try {
+                writer.write(format == Format.CSV ? toCsvLine(employee) : objectMapper.writeValueAsString(employee));
+                writer.write('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Employee export: {} rows in {} ms ({} rows/s)", rows[0], elapsedMillis,
+                Math.round(rows[0] * 1000.0 / elapsedMillis));
+        return rows[0];
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        // Tolerate a UTF-8 byte order mark from spreadsheet exports
+        List<String> columns = EmployeeCsv.parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        // Errors report the line a record starts on; a record may span several lines
+        int[] lines = {1};
+        String line;
+        while (true) {
+            int lineNumber = lines[0] + 1;
+            if ((line = EmployeeCsv.readRecord(reader, lines)) == null) {
+                break;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = EmployeeCsv.parseLine(line);
+            Employee employee = new Employee();
+            try {
+                for (int i = 0; i < columns.size() && i < fields.size(); i++) {
+                    setField(employee, columns.get(i).trim(), fields.get(i).trim());
+                }
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, e.getMessage());
+                continue;
+            }
+            run.add(lineNumber, employee);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            Employee employee;
+            try {
+                employee = objectMapper.readValue(line, Employee.class);
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, "invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            run.add(lineNumber, employee);
+        }
+    }
+
+    private static void setField(Employee employee, String column, String value) {
+        if (value.isEmpty()) {
+            return;
+        }
+        try {
+            switch (column) {
+                case "employeeId" -> employee.setEmployeeId(value);
+                case "firstName" -> employee.setFirstName(value);
+                case "lastName" -> employee.setLastName(value);
+                case "email" -> employee.setEmail(value);
+                case "phoneNumber" -> employee.setPhoneNumber(value);
+                case "address" -> employee.setAddress(value);
+                case "position" -> employee.setPosition(value);
+                case "department" -> employee.setDepartment(value);
+                case "hireDate" -> employee.setHireDate(LocalDate.parse(value));
+                case "employmentType" -> employee.setEmploymentType(EmploymentType.valueOf(value.toUpperCase(Locale.ROOT)));
+                case "role" -> employee.setRole(EmployeeRole.valueOf(value.toUpperCase(Locale.ROOT)));
+                case "salary" -> employee.setSalary(new BigDecimal(value));
+                case "bio" -> employee.setBio(value);
+                case "skills" -> employee.setSkills(value);
+                case "profilePictureUrl" -> employee.setProfilePictureUrl(value);
+                default -> { }  // Unknown columns (e.g. id from an export) are ignored
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(column + ": invalid value '" + value + "'");
+        }
+    }
+
+    private void streamEmployees(Consumer<Employee> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(mapEmployee(resultSet)));
+    }
+
+    private static Employee mapEmployee(ResultSet rs) throws SQLException {
+        Employee employee = new Employee();
+        employee.setId(rs.getLong("id"));
+        employee.setEmployeeId(rs.getString("employee_id"));
+        employee.setFirstName(rs.getString("first_name"));
+        employee.setLastName(rs.getString("last_name"));
+        employee.setEmail(rs.getString("email"));
+        employee.setPhoneNumber(rs.getString("phone_number"));
+        employee.setAddress(rs.getString("address"));
+        employee.setPosition(rs.getString("position"));
+        employee.setDepartment(rs.getString("department"));
+        Date hireDate = rs.getDate("hire_date");
+        employee.setHireDate(hireDate != null ? hireDate.toLocalDate() : null);
+        String employmentType = rs.getString("employment_type");
+        employee.setEmploymentType(employmentType != null ? EmploymentType.valueOf(employmentType) : null);
+        String role = rs.getString("role");
+        employee.setRole(role != null ? EmployeeRole.valueOf(role) : null);
+        employee.setSalary(rs.getBigDecimal("salary"));
+        employee.setBio(rs.getString("bio"));
+        employee.setSkills(rs.getString("skills"));
+        employee.setProfilePictureUrl(rs.getString("profile_picture_url"));
+        return employee;
+    }
+
+    private static String toCsvLine(Employee employee) {
+        Object[] values = {employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getAddress(), employee.getPosition(),
+                employee.getDepartment(), employee.getHireDate(), employee.getEmploymentType(), employee.getRole(),
+                employee.getSalary() != null ? employee.getSalary().toPlainString() : null, employee.getBio(),
+                employee.getSkills(), employee.getProfilePictureUrl()};
+        StringBuilder line = new StringBuilder(256);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            EmployeeCsv.appendField(line, values[i]);
+        }
+        return line.toString();
+    }
+
+    // State of one import: the pending batch, counters and keys seen earlier in the file
+    private class ImportRun {
+
+        private record Row(int lineNumber, Employee employee) {}
+
+        private final List<Row> batch = new ArrayList<>();
+        private final Set<String> seenEmployeeIds = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        void add(int lineNumber, Employee employee) {
+            rowsRead++;
+            Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+            if (!violations.isEmpty()) {
+                recordError(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (!seenEmployeeIds.add(employee.getEmployeeId()) || !seenEmails.add(employee.getEmail())) {
+                recordError(lineNumber, "duplicate employeeId or email in input");
+                return;
+            }
+            batch.add(new Row(lineNumber, employee));
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        // A row that could not be parsed
+        void reject(int lineNumber, String message) {
+            rowsRead++;
+            recordError(lineNumber, message);
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            Set<String> existing = existingKeys(batch.stream().map(Row::employee).toList());
+            List<Employee> employees = new ArrayList<>(batch.size());
+            for (Row row : batch) {
+                Employee employee = row.employee();
+                if (existing.contains(employee.getEmployeeId()) || existing.contains(employee.getEmail())) {
+                    recordError(row.lineNumber(), "employeeId or email already exists");
+                } else {
+                    employees.add(employee);
+                }
+            }
+            batch.clear();
+            if (employees.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    INSERT_SQL, employees, employees.size(), EmployeeBulkService::bindInsert));
+            imported += employees.size();
+        }
+
+        private void recordError(int lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("line " + lineNumber + ": " + message);
+            }
+        }
+    }
+
+    private Set<String> existingKeys(List<Employee> employees) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("employeeIds", employees.stream().map(Employee::getEmployeeId).toList())
+                .addValue("emails", employees.stream().map(Employee::getEmail).toList());
+        Set<String> keys = new HashSet<>();
+        namedParameterJdbcTemplate.query(EXISTING_KEYS_SQL, parameters,
+                (RowCallbackHandler) resultSet -> keys.add(resultSet.getString("unique_key")));
+        return keys;
+    }
+
+    private static void bindInsert(PreparedStatement statement, Employee employee) throws SQLException {
+        statement.setString(1, employee.getEmployeeId());
+        statement.setString(2, employee.getFirstName());
+        statement.setString(3, employee.getLastName());
+        statement.setString(4, employee.getEmail());
+        statement.setString(5, employee.getPhoneNumber());
+        statement.setString(6, employee.getAddress());
+        statement.setString(7, employee.getPosition());
+        statement.setString(8, employee.getDepartment());
+        statement.setObject(9, employee.getHireDate(), Types.DATE);
+        statement.setString(10, employee.getEmploymentType() != null ? employee.getEmploymentType().name() : null);
+        statement.setString(11, employee.getRole() != null ? employee.getRole().name() : null);
+        statement.setBigDecimal(12, employee.getSalary());
+        statement.setString(13, employee.getBio());
+        statement.setString(14, employee.getSkills());
+        statement.setString(15, employee.getProfilePictureUrl());
+    }
+}
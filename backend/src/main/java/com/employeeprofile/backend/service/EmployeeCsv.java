@@ -0,0 +1,73 @@
+package com.employeeprofile.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 handling for the employee import/export: comma separated, fields
+// quoted when they contain a comma, quote or line break, quotes doubled. A quoted field
+// may span lines (a bio with paragraphs); line breaks inside it are read back as \n.
+final class EmployeeCsv {
+
+    private EmployeeCsv() {}
+
+    // The next record, continuing onto following lines while a quoted field is open, or null
+    // at the end of the input. lines[0] is advanced by the number of lines consumed.
+    static String readRecord(BufferedReader reader, int[] lines) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lines[0]++;
+        StringBuilder record = new StringBuilder(line);
+        // Doubled quotes inside a field come in pairs, so an odd count means the field is still open
+        long quotes = line.chars().filter(c -> c == '"').count();
+        while (quotes % 2 == 1 && (line = reader.readLine()) != null) {
+            lines[0]++;
+            record.append('\n').append(line);
+            quotes += line.chars().filter(c -> c == '"').count();
+        }
+        return record.toString();
+    }
+
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static void appendField(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            line.append(text);
+            return;
+        }
+        line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,70 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.AsyncConfig;
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.EmployeeProfile;
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackPage;
+import com.employeeprofile.backend.entity.Employee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// Assembles the employee profile page in one call: the employee is resolved once
+// (through the employee cache), then the three sections are queried in parallel on
+// virtual threads, so the page costs about as much as its slowest section.
+@Service
+public class EmployeeProfileService {
+
+    public static final int DEFAULT_SECTION_LIMIT = 20;
+    public static final int MAX_SECTION_LIMIT = 100;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private AbsenceRequestService absenceRequestService;
+
+    @Autowired
+    @Qualifier(AsyncConfig.PROFILE_EXECUTOR)
+    private TaskExecutor profileExecutor;
+
+    public Optional<EmployeeProfile> getProfile(Long id, int limit) {
+        Optional<Employee> employee = employeeService.getEmployeeById(id);
+        if (employee.isEmpty()) {
+            return Optional.empty();
+        }
+        int sectionLimit = Math.max(1, Math.min(limit, MAX_SECTION_LIMIT));
+
+        CompletableFuture<FeedbackPage> received = CompletableFuture.supplyAsync(() -> feedbackService.getFeedbackFeed(
+                new FeedbackFeedFilter(id, null, null, null), null, sectionLimit), profileExecutor);
+        CompletableFuture<FeedbackPage> given = CompletableFuture.supplyAsync(() -> feedbackService.getFeedbackFeed(
+                new FeedbackFeedFilter(null, id, null, null), null, sectionLimit), profileExecutor);
+        CompletableFuture<List<AbsenceRequestSummary>> absences = CompletableFuture.supplyAsync(
+                () -> absenceRequestService.getRecentAbsenceRequestSummaries(id, sectionLimit + 1), profileExecutor);
+
+        try {
+            CompletableFuture.allOf(received, given, absences).join();
+        } catch (CompletionException e) {
+            // Surface the section's own exception, as a sequential call would
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        List<AbsenceRequestSummary> absenceRequests = absences.join();
+        boolean moreAbsenceRequests = absenceRequests.size() > sectionLimit;
+        return Optional.of(new EmployeeProfile(employee.get(), received.join(), given.join(),
+                moreAbsenceRequests ? absenceRequests.subList(0, sectionLimit) : absenceRequests,
+                moreAbsenceRequests));
+    }
+}
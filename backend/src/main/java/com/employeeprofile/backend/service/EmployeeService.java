@@ -1,29 +1,92 @@
 package com.employeeprofile.backend.service;
 
+import com.employeeprofile.backend.config.CacheConfig;
+import com.employeeprofile.backend.config.MetricsConfig;
+import com.employeeprofile.backend.dto.EmployeePage;
+import com.employeeprofile.backend.dto.EmployeeSummary;
 import com.employeeprofile.backend.entity.Employee;
 import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class EmployeeService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeNameSearch employeeNameSearch;
+
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAllByOrderByIdAsc();
     }
 
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesByDepartment(String department) {
+        return employeeRepository.findByDepartmentOrderByIdAsc(department);
+    }
+
+    // Keyset pagination on id: only reads limit + 1 rows, whatever the table size
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployeesPage(Long after, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<EmployeeSummary> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                after != null ? after : 0L, Limit.of(pageSize + 1));
+
+        if (employees.size() <= pageSize) {
+            return new EmployeePage(employees, null);
+        }
+        List<EmployeeSummary> items = employees.subList(0, pageSize);
+        return new EmployeePage(items, items.get(pageSize - 1).id());
+    }
+
+    // Hands every employee to the consumer as it comes off the JDBC cursor.
+    // Summaries are not managed entities, so memory stays flat.
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeSummary> consumer) {
+        try (Stream<EmployeeSummary> employees = employeeRepository.streamSummaries()) {
+            employees.forEach(consumer);
+        }
+    }
+
+    // Read-through cached; misses are not cached so new employees show up immediately
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_ID, unless = "#result == null")
+    @Transactional(readOnly = true)
     public Optional<Employee> getEmployeeById(Long id) {
         return employeeRepository.findById(id);
     }
 
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_EMPLOYEE_ID, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<Employee> getEmployeeByEmployeeId(String employeeId) {
+        return employeeRepository.findByEmployeeId(employeeId);
+    }
+
+    // Refreshes both cache entries with the saved employee
+    @Caching(put = {
+        @CachePut(cacheNames = CacheConfig.EMPLOYEES_BY_ID, key = "#id"),
+        @CachePut(cacheNames = CacheConfig.EMPLOYEES_BY_EMPLOYEE_ID, key = "#result.employeeId")
+    })
     public Employee updateEmployee(Long id, Employee employeeDetails) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
@@ -41,10 +104,18 @@ public class EmployeeService {
         employee.setSkills(employeeDetails.getSkills());
         employee.setProfilePictureUrl(employeeDetails.getProfilePictureUrl());
 
-        return employeeRepository.save(employee);
+        Employee savedEmployee = employeeRepository.save(employee);
+        employeeNameSearch.index(savedEmployee);
+        return savedEmployee;
+    }
+
+    public List<EmployeeSummary> searchByName(String name) {
+        return searchByName(name, DEFAULT_SEARCH_LIMIT);
     }
 
-    public List<Employee> searchByName(String name) {
-        return employeeRepository.findByNameContaining(name);
+    // Ranked by match quality (name prefix, word prefix, substring), at most limit results
+    @Transactional(readOnly = true)
+    public List<EmployeeSummary> searchByName(String name, int limit) {
+        return employeeNameSearch.search(name, Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT)));
     }
 }
@@ -1,55 +1,151 @@
 package com.employeeprofile.backend.service;
 
+import com.employeeprofile.backend.config.MetricsConfig;
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackModeration;
+import com.employeeprofile.backend.dto.FeedbackPage;
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.dto.FeedbackSummary;
 import com.employeeprofile.backend.entity.Employee;
 import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.repository.EmployeeRepository;
 import com.employeeprofile.backend.repository.FeedbackRepository;
+import com.employeeprofile.backend.search.FeedbackTextSearch;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.JsonNode;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class FeedbackService {
 
+    public static final int DEFAULT_FEED_PAGE_SIZE = 20;
+    public static final int MAX_FEED_PAGE_SIZE = 100;
+    public static final int MAX_MODERATION_BATCH = 500;
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // Ranked results are only useful near the top; deeper pages are refused
+    public static final int MAX_SEARCH_RESULTS = 1000;
+
     @Autowired
     private FeedbackRepository feedbackRepository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private EmployeeRepository employeeRepository;
 
-    @Value("${openrouter.api.token:}")
-    private String openRouterToken;
+    @Autowired
+    private AiEnhancementService aiEnhancementService;
 
-    private static final String OPENROUTER_API_URL = "https://openrouter.ai/api/v1/chat/completions";
+    @Autowired
+    private FeedbackTextSearch feedbackTextSearch;
 
+    // Regular lists skip archived and hidden feedback
+    @Transactional(readOnly = true)
     public List<Feedback> getAllFeedback() {
-        return feedbackRepository.findAll();
+        return feedbackRepository.findByStatusInOrderByIdAsc(FeedbackStatus.LISTED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedbackSummary> getAllFeedbackSummaries() {
+        return feedbackRepository.findAllSummaries(FeedbackStatus.LISTED);
+    }
+
+    // Keyset pagination on id, newest first: reads limit + 1 rows whatever the filters
+    // and however long the history
+    @Transactional(readOnly = true)
+    public FeedbackPage getFeedbackFeed(FeedbackFeedFilter filter, Long before, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_PAGE_SIZE));
+        List<FeedbackSummary> feedback = feedbackRepository.findFeedPage(filter, FeedbackStatus.LISTED,
+                before, pageSize + 1);
+
+        if (feedback.size() <= pageSize) {
+            return new FeedbackPage(feedback, null);
+        }
+        List<FeedbackSummary> items = feedback.subList(0, pageSize);
+        return new FeedbackPage(items, items.get(pageSize - 1).id());
     }
 
+    // New feedback is always active, whatever the client sent
     public Feedback createFeedback(Feedback feedback) {
-        return feedbackRepository.save(feedback);
+        // Clients may send just {"id": ...}; a detached Employee without its version cannot be referenced
+        feedback.setEmployee(findEmployee(feedback.getEmployee()));
+        feedback.setFeedbackGiver(findEmployee(feedback.getFeedbackGiver()));
+        feedback.setStatus(FeedbackStatus.ACTIVE);
+        Feedback savedFeedback = feedbackRepository.save(feedback);
+        feedbackTextSearch.index(savedFeedback);
+        return savedFeedback;
+    }
+
+    private Employee findEmployee(Employee employee) {
+        if (employee == null || employee.getId() == null) {
+            throw new IllegalArgumentException("Employee id is required");
+        }
+        return employeeRepository.findById(employee.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + employee.getId()));
     }
 
     // Employee-specific operations
+    @Transactional(readOnly = true)
     public List<Feedback> getAllFeedbackForEmployee(Employee employee) {
-        return feedbackRepository.findByEmployeeOrderByIdDesc(employee);
+        return feedbackRepository.findByEmployeeAndStatusInOrderByIdDesc(employee, FeedbackStatus.LISTED);
     }
 
+    @Transactional(readOnly = true)
     public List<Feedback> getFeedbackGivenBy(Employee feedbackGiver) {
-        return feedbackRepository.findByFeedbackGiverOrderByIdDesc(feedbackGiver);
+        return feedbackRepository.findByFeedbackGiverAndStatusInOrderByIdDesc(feedbackGiver, FeedbackStatus.LISTED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedbackSummary> getFeedbackSummariesForEmployee(Long employeeId) {
+        return feedbackRepository.findSummariesByEmployeeId(employeeId, FeedbackStatus.LISTED);
+    }
+
+    @Transactional(readOnly = true)
+    public List<FeedbackSummary> getFeedbackSummariesGivenBy(Long feedbackGiverId) {
+        return feedbackRepository.findSummariesByFeedbackGiverId(feedbackGiverId, FeedbackStatus.LISTED);
+    }
+
+    // Moderation
+    @Transactional(readOnly = true)
+    public List<FeedbackSummary> getFeedbackSummariesByStatus(FeedbackStatus status) {
+        return feedbackRepository.findAllSummaries(List.of(status));
+    }
+
+    // Moves a batch of feedback to one status with a single UPDATE
+    public FeedbackModeration.Result moderate(FeedbackModeration moderation) {
+        if (moderation.status() == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (moderation.ids() == null || moderation.ids().isEmpty() || moderation.ids().size() > MAX_MODERATION_BATCH) {
+            throw new IllegalArgumentException("Moderate between 1 and " + MAX_MODERATION_BATCH + " feedback at a time");
+        }
+        LinkedHashSet<Long> ids = new LinkedHashSet<>(moderation.ids());
+        int updated = feedbackRepository.updateStatus(ids, moderation.status(), LocalDateTime.now());
+        feedbackTextSearch.updateStatus(ids, moderation.status());
+        return new FeedbackModeration.Result(moderation.status(), ids.size(), updated);
+    }
+
+    // Full-text search over content and AI-enhanced content, best match first
+    @Transactional(readOnly = true)
+    public FeedbackSearchPage searchFeedback(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        if (page < 0 || (page + 1) * pageSize > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Only the first " + MAX_SEARCH_RESULTS + " results can be paged through");
+        }
+        return feedbackTextSearch.search(query.trim(), page, pageSize);
     }
 
     // AI Enhancement
@@ -60,50 +156,33 @@ public class FeedbackService {
         feedback.setAiEnhancedContent(aiEnhancedContent);
         feedback.setIsAiEnhanced(true);
         feedbackRepository.save(feedback);
+        feedbackTextSearch.index(feedback);
     }
 
-    public String enhanceFeedbackWithAI(String originalText) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Bearer " + openRouterToken);
-            headers.set("Content-Type", "application/json");
-            headers.set("HTTP-Referer", "http://localhost:8080");
-            headers.set("X-Title", "Employee Feedback Enhancement");
-
-            Map<String, Object> requestBody = Map.of(
-                "model", "mistralai/mistral-7b-instruct:free",  // Free model
-                "messages", List.of(
-                    Map.of(
-                        "role", "user",
-                        "content", "Please rewrite this feedback in a more professional and constructive way: \"" + originalText + "\""
-                    )
-                ),
-                "max_tokens", 150,
-                "temperature", 0.7
-            );
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.exchange(
-                OPENROUTER_API_URL,
-                HttpMethod.POST,
-                entity,
-                String.class
-            );
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonResponse = mapper.readTree(response.getBody());
-            
-            String enhancedText = jsonResponse.get("choices").get(0).get("message").get("content").asText().trim();
-
-            // Remove unwanted formatting tags
-            Pattern pattern = Pattern.compile("<.*?>");
-            Matcher matcher = pattern.matcher(enhancedText);
-            enhancedText = matcher.replaceAll("");
-
-            return enhancedText;
-
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to enhance text with AI: " + e.getMessage());
+    // Stores several AI results in one transaction; with hibernate.jdbc.batch_size the
+    // UPDATEs go to the database in JDBC batches
+    public void applyAiEnhancements(Map<Long, String> aiEnhancedContentById) {
+        List<Feedback> feedbacks = feedbackRepository.findAllById(aiEnhancedContentById.keySet());
+        for (Feedback feedback : feedbacks) {
+            feedback.setAiEnhancedContent(aiEnhancedContentById.get(feedback.getId()));
+            feedback.setIsAiEnhanced(true);
         }
+        feedbackRepository.saveAll(feedbacks);
+        feedbacks.forEach(feedbackTextSearch::index);
+    }
+
+    // Synchronous enhancement; kept outside any transaction while the upstream call runs
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String enhanceFeedbackWithAI(String originalText) {
+        return aiEnhancementService.enhance(originalText);
+    }
+
+    // Cached results are answered directly; anything else runs on the bounded AI
+    // executor, which throws TaskRejectedException when it is saturated
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<String> enhanceFeedbackWithAIAsync(String originalText) {
+        return aiEnhancementService.findCached(originalText)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> aiEnhancementService.enhanceAsync(originalText));
     }
 }
@@ -0,0 +1,86 @@
+package com.employeeprofile.backend.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// ETag values for conditional GETs.
+// A single row is identified by its id and @Version. A list is identified by the row
+// count and latest updated_at of every table its rows are read from, so a conditional
+// request costs one small statement that never reads the rows themselves: MAX(updated_at)
+// is served by the updated_at indexes, COUNT(*) by an index-only scan. Lists embed
+// employee names, so they also depend on the employees table.
+// Read-only: a list's ETag must come from the database its rows are read from, so callers
+// compute it in the transaction that loads the list (on the replica when one is in use).
+@Service
+@Transactional(readOnly = true)
+public class ResourceVersionService {
+
+    private static final String EMPLOYEES = tableVersion("employees", null);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public static String of(String resource, Long id, Long version) {
+        return resource + "-" + id + "-" + (version != null ? version : 0);
+    }
+
+    public String employees() {
+        return collection("employees", "SELECT " + EMPLOYEES);
+    }
+
+    public String feedback() {
+        return collection("feedback", "SELECT " + tableVersion("feedback", null) + ", " + EMPLOYEES);
+    }
+
+    public String feedbackForEmployee(Long employeeId) {
+        return collection("feedback-for-" + employeeId,
+                "SELECT " + tableVersion("feedback", "employee_id") + ", " + EMPLOYEES, employeeId, employeeId);
+    }
+
+    public String feedbackGivenBy(Long feedbackGiverId) {
+        return collection("feedback-by-" + feedbackGiverId,
+                "SELECT " + tableVersion("feedback", "feedback_giver_id") + ", " + EMPLOYEES, feedbackGiverId, feedbackGiverId);
+    }
+
+    public String absenceRequests() {
+        return collection("absence-requests", "SELECT " + tableVersion("absence_requests", null) + ", " + EMPLOYEES);
+    }
+
+    public String absenceRequestsForEmployee(Long employeeId) {
+        return collection("absence-requests-for-" + employeeId,
+                "SELECT " + tableVersion("absence_requests", "employee_id") + ", " + EMPLOYEES, employeeId, employeeId);
+    }
+
+    // Reads every column of the single result row and hashes them into a short tag
+    private String collection(String resource, String sql, Object... args) {
+        String state = jdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+            StringBuilder columns = new StringBuilder();
+            for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                columns.append(rs.getString(i)).append('|');
+            }
+            return columns.toString();
+        }, args);
+        return resource + "-" + hash(state);
+    }
+
+    private static String tableVersion(String table, String filterColumn) {
+        String where = filterColumn != null ? " WHERE " + filterColumn + " = ?" : "";
+        return "(SELECT COUNT(*) FROM " + table + where + "), (SELECT MAX(updated_at) FROM " + table + where + ")";
+    }
+
+    private static String hash(String state) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(state.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
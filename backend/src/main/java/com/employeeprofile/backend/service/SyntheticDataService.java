@@ -0,0 +1,368 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.CacheConfig;
+import com.employeeprofile.backend.dto.SyntheticDataResult;
+import com.employeeprofile.backend.dto.SyntheticDataSpec;
+import com.employeeprofile.backend.entity.AbsenceStatus;
+import com.employeeprofile.backend.entity.AbsenceType;
+import com.employeeprofile.backend.entity.EmployeeRole;
+import com.employeeprofile.backend.entity.EmploymentType;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.entity.FeedbackType;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import com.employeeprofile.backend.search.FeedbackTextSearch;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+// Generates a reproducible dataset at production scale for load tests: employees spread
+// over departments of very different size, feedback and absences concentrated on a few
+// employees (Zipf), and statuses that follow the dates (past absences are completed,
+// upcoming ones pending or approved). The same spec yields the same rows; dates are
+// relative to the day of the run. Rows are written with JDBC batch inserts, one
+// transaction per chunk, and the search indexes, absence aggregates and employee query
+// cache are rebuilt once at the end. Synthetic employees have employee ids "SYN000001"...
+@Service
+public class SyntheticDataService {
+
+    public static final String EMPLOYEE_ID_PREFIX = "SYN";
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataService.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String EMPLOYEE_INSERT_SQL = "INSERT INTO employees (employee_id, first_name, last_name, " +
+            "email, phone_number, address, position, department, hire_date, employment_type, role, salary, bio, " +
+            "skills, profile_picture_url, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, LOCALTIMESTAMP)";
+
+    private static final String FEEDBACK_INSERT_SQL = "INSERT INTO feedback (employee_id, feedback_giver_id, " +
+            "content, feedback_type, status, is_ai_enhanced, ai_enhanced_content, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, LOCALTIMESTAMP)";
+
+    private static final String ABSENCE_INSERT_SQL = "INSERT INTO absence_requests (employee_id, absence_type, " +
+            "start_date, end_date, reason, created_at, status, reviewer_id, reviewed_at, version, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, LOCALTIMESTAMP)";
+
+    private static final String[] FIRST_NAMES = {"Anna", "Ben", "Clara", "David", "Elena", "Felix", "Greta", "Hannah",
+            "Isaac", "Julia", "Karl", "Laura", "Max", "Nina", "Oscar", "Paula", "Quentin", "Rosa", "Sam", "Tina",
+            "Uwe", "Vera", "William", "Xenia", "Yusuf", "Zoe", "Lukas", "Mia", "Jonas", "Lea", "Noah", "Emma",
+            "Elias", "Sofia", "Liam", "Amira", "Mateo", "Priya", "Kenji", "Olga"};
+
+    private static final String[] LAST_NAMES = {"Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer",
+            "Wagner", "Becker", "Schulz", "Hoffmann", "Koch", "Richter", "Klein", "Wolf", "Neumann", "Schwarz",
+            "Smith", "Johnson", "Brown", "Garcia", "Martinez", "Nguyen", "Kim", "Patel", "Rossi", "Novak",
+            "Kowalski", "Jensen", "Silva", "Yilmaz", "Dubois", "Tanaka", "O'Brien", "Andersson", "Ivanova", "Cohen"};
+
+    private static final String[] CITIES = {"10115 Berlin", "20095 Hamburg", "80331 München", "50667 Köln",
+            "60311 Frankfurt am Main", "70173 Stuttgart", "04109 Leipzig", "01067 Dresden"};
+
+    private static final String[] STREETS = {"Hauptstraße", "Bahnhofstraße", "Gartenweg", "Schillerstraße",
+            "Goethestraße", "Lindenallee", "Marktplatz", "Bergstraße"};
+
+    private static final String[] SKILLS = {"Java", "Spring Boot", "React", "TypeScript", "SQL", "PostgreSQL",
+            "Kubernetes", "AWS", "Negotiation", "Public Speaking", "Excel", "Recruiting", "Figma", "Copywriting",
+            "Project Management", "Scrum", "Data Analysis", "Python", "Accounting", "Contract Law"};
+
+    // Headcount share in percent, then the positions of the department
+    private static final Department[] DEPARTMENTS = {
+            new Department("Engineering", 34, "Software Engineer", "Senior Software Engineer", "QA Engineer",
+                    "DevOps Engineer", "Engineering Manager"),
+            new Department("Sales", 16, "Account Executive", "Sales Development Representative", "Sales Manager"),
+            new Department("Customer Support", 14, "Support Agent", "Support Specialist", "Support Team Lead"),
+            new Department("Operations", 9, "Operations Analyst", "Logistics Coordinator", "Operations Manager"),
+            new Department("Marketing", 8, "Marketing Specialist", "Content Writer", "Marketing Manager"),
+            new Department("Product", 5, "Product Manager", "Product Owner", "Head of Product"),
+            new Department("Design", 5, "UX Designer", "UI Designer", "Design Lead"),
+            new Department("Finance", 5, "Accountant", "Financial Analyst", "Finance Manager"),
+            new Department("Human Resources", 3, "HR Generalist", "Recruiter", "HR Manager"),
+            new Department("Legal", 1, "Legal Counsel", "Paralegal")};
+
+    private static final Weighted<EmploymentType> EMPLOYMENT_TYPES = new Weighted<>(
+            EmploymentType.values(), new double[]{80, 8, 5, 2, 3, 2});
+
+    private static final Weighted<FeedbackType> FEEDBACK_TYPES = new Weighted<>(
+            FeedbackType.values(), new double[]{35, 20, 10, 15, 8, 3, 4, 5});
+
+    private static final Weighted<FeedbackStatus> FEEDBACK_STATUSES = new Weighted<>(
+            FeedbackStatus.values(), new double[]{93, 3, 1, 2, 1});
+
+    private static final Weighted<AbsenceType> ABSENCE_TYPES = new Weighted<>(AbsenceType.values(),
+            new double[]{45, 25, 6, 0.5, 0.5, 1, 0.3, 0.2, 2, 0.5, 5, 3, 10, 1});
+
+    private static final String[] PRAISE = {"delivered the %s ahead of schedule", "kept the %s on track",
+            "did excellent work on the %s", "took ownership of the %s", "mentored new colleagues during the %s",
+            "communicated clearly throughout the %s", "resolved a difficult customer escalation in the %s"};
+
+    private static final String[] IMPROVEMENT = {"could share progress on the %s earlier",
+            "should document decisions made in the %s", "needs to delegate more during the %s",
+            "could involve stakeholders sooner in the %s", "should plan more buffer for the %s"};
+
+    private static final String[] TOPICS = {"migration project", "quarterly release", "onboarding program",
+            "pricing initiative", "data warehouse rollout", "customer portal redesign", "hiring sprint",
+            "budget review", "incident postmortem", "security audit", "trade fair", "office move"};
+
+    private static final String[] ABSENCE_REASONS = {"Family vacation", "Flu", "Doctor's appointment",
+            "Moving house", "Conference attendance", "Training course", "Working from home", "Personal matters",
+            "Child care", "Wedding"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeNameSearch employeeNameSearch;
+
+    @Autowired
+    private FeedbackTextSearch feedbackTextSearch;
+
+    @Autowired
+    private AbsenceAggregateService absenceAggregateService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Writes the dataset unless synthetic employees already exist (the run is then a no-op,
+    // so restarting an application with the same settings does not double the data)
+    public SyntheticDataResult generate(SyntheticDataSpec spec) {
+        long start = System.nanoTime();
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE employee_id LIKE '" + EMPLOYEE_ID_PREFIX + "%'", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("Synthetic data already present ({} employees), skipping generation", existing);
+            return new SyntheticDataResult(0, 0, 0, 0);
+        }
+
+        // One generator per table, so changing the feedback count leaves employees and absences unchanged
+        LocalDate today = LocalDate.now();
+        Random employeeRandom = new Random(spec.seed());
+        insert(EMPLOYEE_INSERT_SQL, spec.employees(), i -> employeeRow(i, employeeRandom, today));
+
+        List<long[]> employees = jdbcTemplate.query("SELECT id, role FROM employees WHERE employee_id LIKE '" +
+                        EMPLOYEE_ID_PREFIX + "%' ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong(1), EmployeeRole.MANAGER.name().equals(rs.getString(2)) ? 1 : 0});
+        long[] ids = employees.stream().mapToLong(employee -> employee[0]).toArray();
+        long[] managerIds = employees.stream().filter(employee -> employee[1] == 1).mapToLong(employee -> employee[0])
+                .toArray();
+
+        Random feedbackRandom = new Random(spec.seed() + 1);
+        long[] receivers = shuffled(ids, feedbackRandom);
+        Zipf popularReceivers = new Zipf(ids.length, 1.1);
+        insert(FEEDBACK_INSERT_SQL, spec.feedback(),
+                i -> feedbackRow(receivers, popularReceivers, feedbackRandom));
+
+        Random absenceRandom = new Random(spec.seed() + 2);
+        long[] absentees = shuffled(ids, absenceRandom);
+        Zipf frequentAbsentees = new Zipf(ids.length, 0.7);
+        insert(ABSENCE_INSERT_SQL, spec.absences(),
+                i -> absenceRow(absentees, frequentAbsentees, managerIds, absenceRandom, today));
+
+        employeeNameSearch.rebuild();
+        feedbackTextSearch.rebuild();
+        absenceAggregateService.rebuild();
+        // JDBC inserts bypass Hibernate, so cached employee query results would miss the new rows
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheConfig.EMPLOYEE_QUERY_REGION);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Generated {} employees, {} feedback and {} absences (seed {}) in {} ms",
+                spec.employees(), spec.feedback(), spec.absences(), spec.seed(), elapsedMillis);
+        return new SyntheticDataResult(spec.employees(), spec.feedback(), spec.absences(), elapsedMillis);
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            List<Object[]> rows = new ArrayList<>(Math.min(CHUNK_SIZE, count - from));
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, count); i++) {
+                rows.add(row.apply(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        }
+    }
+
+    private Object[] employeeRow(int index, Random random, LocalDate today) {
+        String employeeId = String.format("%s%06d", EMPLOYEE_ID_PREFIX, index + 1);
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        Department department = pickDepartment(random);
+        // Roughly one manager per eight people; the last position of a department is its lead role
+        boolean manager = random.nextInt(8) == 0;
+        String position = manager ? department.positions()[department.positions().length - 1]
+                : department.positions()[random.nextInt(department.positions().length - 1)];
+        EmployeeRole role = manager ? EmployeeRole.MANAGER
+                : random.nextInt(10) == 0 ? EmployeeRole.CO_WORKER : EmployeeRole.EMPLOYEE;
+        // More recent hires than veterans: a growing company
+        LocalDate hireDate = today.minusDays((long) (Math.pow(random.nextDouble(), 2) * 15 * 365));
+        BigDecimal salary = BigDecimal.valueOf((manager ? 85_000 : 45_000) + random.nextInt(50) * 1000L);
+        String skills = pick(SKILLS, random) + ", " + pick(SKILLS, random) + ", " + pick(SKILLS, random);
+        return new Object[]{
+                employeeId,
+                firstName,
+                lastName,
+                (firstName + "." + lastName + "." + employeeId + "@example.com").toLowerCase().replace("'", ""),
+                String.format("+49 30 %07d", random.nextInt(10_000_000)),
+                pick(STREETS, random) + " " + (1 + random.nextInt(150)) + ", " + pick(CITIES, random) + ", Germany",
+                position,
+                department.name(),
+                hireDate,
+                EMPLOYMENT_TYPES.pick(random).name(),
+                role.name(),
+                salary,
+                position + " in " + department.name() + ", focused on " + pick(TOPICS, random) + ".",
+                skills,
+                "https://i.pravatar.cc/150?img=" + (1 + random.nextInt(70))};
+    }
+
+    private Object[] feedbackRow(long[] receivers, Zipf popularity, Random random) {
+        long receiver = receivers[popularity.sample(random)];
+        long giver = receiver;
+        while (giver == receiver) {
+            giver = receivers[random.nextInt(receivers.length)];
+        }
+        FeedbackType type = FEEDBACK_TYPES.pick(random);
+        String topic = pick(TOPICS, random);
+        String content = type == FeedbackType.CONSTRUCTIVE || type == FeedbackType.DEVELOPMENT_FEEDBACK
+                ? "Overall solid work. " + capitalize(String.format(pick(IMPROVEMENT, random), topic)) + "."
+                : capitalize(String.format(pick(PRAISE, random), topic)) + ". "
+                + capitalize(String.format(pick(PRAISE, random), pick(TOPICS, random))) + ".";
+        boolean aiEnhanced = random.nextInt(10) < 3;
+        return new Object[]{
+                receiver,
+                giver,
+                content,
+                type.name(),
+                FEEDBACK_STATUSES.pick(random).name(),
+                aiEnhanced,
+                aiEnhanced ? "Thank you for your contribution: " + content
+                        + " This made a noticeable difference for the team." : null};
+    }
+
+    private Object[] absenceRow(long[] absentees, Zipf frequency, long[] managerIds, Random random, LocalDate today) {
+        AbsenceType type = ABSENCE_TYPES.pick(random);
+        // Two years back to six months ahead
+        LocalDate startDate = today.plusDays(random.nextInt(2 * 365 + 183) - 2 * 365);
+        int days = switch (type) {
+            case VACATION -> 1 + random.nextInt(14);
+            case SICK_LEAVE -> 1 + (int) Math.min(20, -Math.log(1 - random.nextDouble()) * 3);
+            case MATERNITY_LEAVE, PATERNITY_LEAVE, SABBATICAL -> 30 + random.nextInt(90);
+            case CONFERENCE, TRAINING -> 1 + random.nextInt(4);
+            default -> 1 + random.nextInt(3);
+        };
+        LocalDate endDate = startDate.plusDays(days - 1);
+        LocalDateTime createdAt = startDate.minusDays(type == AbsenceType.SICK_LEAVE ? 0 : 1 + random.nextInt(60))
+                .atTime(8 + random.nextInt(10), random.nextInt(60));
+
+        AbsenceStatus status;
+        int roll = random.nextInt(100);
+        if (endDate.isBefore(today)) {
+            status = roll < 90 ? AbsenceStatus.COMPLETED : roll < 96 ? AbsenceStatus.REJECTED : AbsenceStatus.CANCELLED;
+        } else if (!startDate.isAfter(today)) {
+            status = roll < 95 ? AbsenceStatus.IN_PROGRESS : AbsenceStatus.CANCELLED;
+        } else {
+            status = roll < 55 ? AbsenceStatus.APPROVED : roll < 95 ? AbsenceStatus.PENDING : AbsenceStatus.REJECTED;
+        }
+        boolean reviewed = status != AbsenceStatus.PENDING && status != AbsenceStatus.CANCELLED
+                && managerIds.length > 0;
+        return new Object[]{
+                absentees[frequency.sample(random)],
+                type.name(),
+                startDate,
+                endDate,
+                pick(ABSENCE_REASONS, random),
+                createdAt,
+                status.name(),
+                reviewed ? managerIds[random.nextInt(managerIds.length)] : null,
+                reviewed ? createdAt.plusHours(1 + random.nextInt(48)) : null};
+    }
+
+    private static Department pickDepartment(Random random) {
+        int roll = random.nextInt(100);
+        for (Department department : DEPARTMENTS) {
+            roll -= department.share();
+            if (roll < 0) {
+                return department;
+            }
+        }
+        return DEPARTMENTS[0];
+    }
+
+    // Random order, so the most popular ranks are not simply the oldest employees
+    private static long[] shuffled(long[] ids, Random random) {
+        long[] copy = ids.clone();
+        for (int i = copy.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long id = copy[i];
+            copy[i] = copy[j];
+            copy[j] = id;
+        }
+        return copy;
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private record Department(String name, int share, String... positions) {
+    }
+
+    // Values drawn with fixed relative weights
+    private static final class Weighted<T> {
+        private final T[] values;
+        private final double[] cumulative;
+
+        Weighted(T[] values, double[] weights) {
+            if (values.length != weights.length) {
+                throw new IllegalArgumentException("Expected " + values.length + " weights, got " + weights.length);
+            }
+            this.values = values;
+            this.cumulative = new double[weights.length];
+            double sum = 0;
+            for (int i = 0; i < weights.length; i++) {
+                sum += weights[i];
+                cumulative[i] = sum;
+            }
+        }
+
+        T pick(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+            return values[Math.min(index < 0 ? -index - 1 : index, values.length - 1)];
+        }
+    }
+
+    // Ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent
+    static final class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+            return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+        }
+    }
+}
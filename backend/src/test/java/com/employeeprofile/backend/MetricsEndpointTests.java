@@ -0,0 +1,43 @@
+package com.employeeprofile.backend;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The Prometheus scrape carries endpoint, service, repository, pool and Hibernate meters
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusScrapeCoversTheRequestPath() throws Exception {
+        mockMvc.perform(get("/api/employees")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*uri=\"/api/employees\"")
+                .containsPattern("app_service_seconds_bucket\\{[^}]*class=\"[\\w.]*EmployeeService\"[^}]*method=\"getAllEmployees\"")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*repository=\"EmployeeRepository\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("ai_enhancement_upstream_seconds_count")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"employeesById\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"aiEnhancements\"");
+    }
+}
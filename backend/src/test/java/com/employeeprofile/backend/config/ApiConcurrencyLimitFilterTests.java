@@ -0,0 +1,81 @@
+package com.employeeprofile.backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Requests beyond the limit wait, then get 503 with Retry-After; non-API paths are not limited,
+// and async requests hold their permit until the async work completes
+class ApiConcurrencyLimitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApiConcurrencyLimitFilter filter =
+            new ApiConcurrencyLimitFilter(meterRegistry, 1, Duration.ofMillis(50));
+
+    @Test
+    void rejectsRequestsBeyondTheLimit() throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/employees"), response, (request, ignored) -> {
+                    admitted.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        });
+        assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("web.requests.active").gauge().value()).isEqualTo(1);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/feedback"), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("web.requests.rejected").counter().count()).isEqualTo(1);
+
+        MockHttpServletResponse page = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/index.html"), page, new MockFilterChain());
+        assertThat(page.getStatus()).isEqualTo(200);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/feedback"), next, new MockFilterChain());
+        assertThat(next.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncRequestsHoldTheirPermitUntilCompleted() throws Exception {
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/api/employees/stream");
+        stream.setAsyncSupported(true);
+        filter.doFilter(stream, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        assertThat(meterRegistry.get("web.requests.active").gauge().value()).isEqualTo(1);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/feedback"), rejected, new MockFilterChain());
+        assertThat(rejected.getStatus()).isEqualTo(503);
+
+        stream.getAsyncContext().complete();
+        assertThat(meterRegistry.get("web.requests.active").gauge().value()).isZero();
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/feedback"), next, new MockFilterChain());
+        assertThat(next.getStatus()).isEqualTo(200);
+    }
+}
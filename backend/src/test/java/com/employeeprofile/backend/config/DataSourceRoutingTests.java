@@ -0,0 +1,188 @@
+package com.employeeprofile.backend.config;
+
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.service.EmployeeService;
+import com.employeeprofile.backend.service.FeedbackService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Read/write routing with two pools on embedded databases. The replica database stands in for
+// a streaming replica: it holds a copy of the primary that only catches up when the test
+// replicates, and reports its lag from a table the test controls.
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=" + DataSourceRoutingTests.REPLICA_URL,
+        "datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "datasource.replica.max-lag=5s",
+        "datasource.replica.lag-check-interval=1h",
+        "datasource.replica.hikari.maximum-pool-size=3",
+        "datasource.replica.hikari.minimum-idle=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataSourceRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:employeeprofile-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    // Direct access to the replica database; its pool only hands out read-only connections
+    private final JdbcTemplate replicaDatabase = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @TempDir
+    private Path tempDir;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void replicaInSync() {
+        replicate();
+        replicaDatabase.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds INT)");
+        replicaDatabase.update("DELETE FROM replica_lag");
+        replicaDatabase.update("INSERT INTO replica_lag VALUES (0)");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndWritesThePrimary() {
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(poolInUse(true)).isEqualTo("replica");
+        assertThat(poolInUse(false)).isEqualTo("primary");
+
+        double replicaRoutes = routed("replica");
+        feedbackService.getAllFeedbackSummaries();
+        assertThat(routed("replica")).isEqualTo(replicaRoutes + 1);
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaLags() {
+        replicaDatabase.update("UPDATE replica_lag SET seconds = 60");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isEqualTo(60);
+        double fallbacks = meterRegistry.get("datasource.routing.fallbacks").counter().count();
+        assertThat(poolInUse(true)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.routing.fallbacks").counter().count()).isEqualTo(fallbacks + 1);
+
+        replicaDatabase.update("UPDATE replica_lag SET seconds = 1");
+        replicaLagMonitor.check();
+        assertThat(poolInUse(true)).isEqualTo("replica");
+    }
+
+    // A list read from a replica that has not caught up carries the replica's ETag, so the
+    // client's copy is confirmed until the replica has the change and replaced afterwards
+    @Test
+    void listETagsComeFromTheDatabaseTheListIsReadFrom() throws Exception {
+        Employee employee = employeeRepository.findByEmployeeId("EMP005").orElseThrow();
+        String eTag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        employee.setBio("Written to the primary only");
+        employeeService.updateEmployee(employee.getId(), employee);
+        mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        replicate();
+        String replicatedETag = mockMvc.perform(get("/api/employees").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Written to the primary only")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(replicatedETag).isNotEqualTo(eTag);
+    }
+
+    // A department list read from the lagging replica must not be kept by the query cache,
+    // or it would still be served once the replica has caught up
+    @Test
+    void employeeQueriesAreNotCachedFromTheReplica() throws Exception {
+        Employee employee = employeeRepository.findByEmployeeId("EMP005").orElseThrow();
+        employee.setBio("Moved while the replica lags");
+        employeeService.updateEmployee(employee.getId(), employee);
+        String url = "/api/employees?department=" + employee.getDepartment();
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("Moved while the replica lags"))));
+
+        replicate();
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("Moved while the replica lags")));
+    }
+
+    // Copies the primary into the replica database, as if the replica had caught up
+    private void replicate() {
+        String script = tempDir.resolve("primary.sql").toString();
+        jdbcTemplate.execute("SCRIPT DROP TO '" + script + "'");
+        replicaDatabase.execute("RUNSCRIPT FROM '" + script + "'");
+    }
+
+    // The pool holding the connection of a transaction that has run one query
+    private String poolInUse(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> {
+            employeeRepository.count();
+            if (replica.getHikariPoolMXBean().getActiveConnections() > 0) {
+                return "replica";
+            }
+            return primary.getHikariPoolMXBean().getActiveConnections() > 0 ? "primary" : "none";
+        });
+    }
+
+    private double routed(String route) {
+        return meterRegistry.get("datasource.routing").tag("route", route).counter().count();
+    }
+}
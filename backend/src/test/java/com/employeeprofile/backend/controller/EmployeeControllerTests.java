@@ -0,0 +1,96 @@
+package com.employeeprofile.backend.controller;
+
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackType;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.repository.FeedbackRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Conditional GETs: If-None-Match with the current ETag is answered 304 without a body,
+// and any change to the resource (or to a row a list is built from) yields a new ETag
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void employeeIsNotModifiedUntilItIsUpdated() throws Exception {
+        Employee employee = employeeRepository.findByEmployeeId("EMP005").orElseThrow();
+        String url = "/api/employees/" + employee.getId();
+
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        employee.setBio("Updated to invalidate the ETag");
+        String updatedETag = mockMvc.perform(put(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updatedETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedETag));
+    }
+
+    @Test
+    void feedbackListETagChangesWithItsRows() throws Exception {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        Employee manager = employeeRepository.findByEmployeeId("EMP001").orElseThrow();
+        String url = "/api/feedback/employee/" + developer.getId();
+        String otherUrl = "/api/feedback/employee/" + manager.getId();
+
+        String eTag = mockMvc.perform(get(url)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String otherETag = mockMvc.perform(get(otherUrl)).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        Feedback feedback = new Feedback(developer, "Clear and thorough code reviews.", FeedbackType.POSITIVE);
+        feedback.setFeedbackGiver(manager);
+        feedbackRepository.save(feedback);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(otherUrl).header(HttpHeaders.IF_NONE_MATCH, otherETag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,179 @@
+package com.employeeprofile.backend.controller;
+
+import com.employeeprofile.backend.config.AsyncConfig;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /api/feedback/enhance against a local stub standing in for OpenRouter
+@SpringBootTest(properties = {
+        "ai.enhancement.max-concurrency=1",
+        "ai.enhancement.queue-capacity=0",
+        "ai.enhancement.batch.parallelism=1",
+        "ai.enhancement.batch.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FeedbackControllerTests {
+
+    private static final String COMPLETION =
+            "{\"choices\":[{\"message\":{\"content\":\" <s>Lisa</s> consistently delivers excellent work. \"}}]}";
+
+    private static HttpServer openRouterStub;
+    private static volatile CountDownLatch releaseResponses = new CountDownLatch(0);
+    private static final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier(AsyncConfig.AI_BATCH_EXECUTOR)
+    private ThreadPoolTaskExecutor batchExecutor;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        openRouterStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        openRouterStub.createContext("/chat/completions", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try {
+                releaseResponses.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        openRouterStub.setExecutor(Executors.newCachedThreadPool());
+        openRouterStub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        openRouterStub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void openRouterUrl(DynamicPropertyRegistry registry) {
+        registry.add("openrouter.api.url",
+                () -> "http://127.0.0.1:" + openRouterStub.getAddress().getPort() + "/chat/completions");
+    }
+
+    @Test
+    void enhancesTextOffTheRequestThread() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/feedback/enhance").content("lisa is great"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Lisa consistently delivers excellent work."));
+    }
+
+    @Test
+    void repeatedDraftsAreServedFromTheCache() throws Exception {
+        int callsBefore = upstreamCalls.get();
+        for (String draft : new String[]{"tom  helped me a lot", " tom helped me\na lot "}) {
+            MvcResult result = mockMvc.perform(post("/api/feedback/enhance").content(draft)).andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("Lisa consistently delivers excellent work."));
+        }
+        assertThat(upstreamCalls.get() - callsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWithServiceUnavailableWhenSaturated() throws Exception {
+        releaseResponses = new CountDownLatch(1);
+        try {
+            // Occupies the only worker until the stub is released
+            MvcResult inFlight = mockMvc.perform(post("/api/feedback/enhance").content("first"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            MvcResult rejected = mockMvc.perform(post("/api/feedback/enhance").content("second")).andReturn();
+            mockMvc.perform(asyncDispatch(rejected))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+
+            releaseResponses.countDown();
+            mockMvc.perform(asyncDispatch(inFlight)).andExpect(status().isOk());
+        } finally {
+            releaseResponses.countDown();
+        }
+    }
+
+    @Test
+    void refusedBatchesStopTheirQueuedTexts() throws Exception {
+        releaseResponses = new CountDownLatch(1);
+        int callsBefore = upstreamCalls.get();
+        long tasksBefore = batchExecutor.getThreadPoolExecutor().getCompletedTaskCount();
+        try {
+            // Occupies the only batch worker until the stub is released
+            MvcResult inFlight = mockMvc.perform(post("/api/feedback/enhance/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"batch one\"]"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            awaitCondition(() -> upstreamCalls.get() - callsBefore == 1);
+
+            // The first text takes the only queue slot, the second does not fit
+            MvcResult rejected = mockMvc.perform(post("/api/feedback/enhance/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[\"batch two\", \"batch three\"]"))
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(rejected))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "5"));
+
+            releaseResponses.countDown();
+            mockMvc.perform(asyncDispatch(inFlight)).andExpect(status().isOk());
+        } finally {
+            releaseResponses.countDown();
+        }
+        // The withdrawn text still leaves the queue, but without calling upstream
+        awaitCondition(() -> batchExecutor.getThreadPoolExecutor().getCompletedTaskCount() >= tasksBefore + 2);
+        assertThat(upstreamCalls.get() - callsBefore).isEqualTo(1);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
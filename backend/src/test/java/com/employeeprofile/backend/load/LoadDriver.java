@@ -0,0 +1,177 @@
+package com.employeeprofile.backend.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Closed-model HTTP load driver on the JDK HttpClient: a fixed number of users, one virtual
+// thread each, repeat an iteration (one or more requests) back to back for the warm-up and
+// then the measured duration. Every request is timed under its name; results report
+// throughput and p50/p99 overall and per name.
+public final class LoadDriver {
+
+    private final URI baseUrl;
+    private final int users;
+    private final Duration warmUp;
+    private final Duration duration;
+    private final HttpClient client;
+
+    public LoadDriver(URI baseUrl, int users, Duration warmUp, Duration duration) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.warmUp = warmUp;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public Result run(String label, Consumer<Session> iteration) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Session> sessions = new ArrayList<>(users);
+        try (ExecutorService userThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> running = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                Session session = new Session(i, measureFrom);
+                sessions.add(session);
+                running.add(userThreads.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        iteration.accept(session);
+                    }
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        }
+        return Result.of(label, sessions, duration);
+    }
+
+    // One user's view: issues requests and records their latency once the warm-up is over
+    public final class Session {
+
+        private final int user;
+        private final long measureFrom;
+        private final Map<String, Samples> samples = new TreeMap<>();
+
+        private Session(int user, long measureFrom) {
+            this.user = user;
+            this.measureFrom = measureFrom;
+        }
+
+        public int user() {
+            return user;
+        }
+
+        public HttpResponse<String> get(String name, String path) {
+            return send(name, HttpRequest.newBuilder(baseUrl.resolve(path)).GET());
+        }
+
+        public HttpResponse<String> post(String name, String path, String json) {
+            return send(name, HttpRequest.newBuilder(baseUrl.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json)));
+        }
+
+        private HttpResponse<String> send(String name, HttpRequest.Builder request) {
+            long start = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                        HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                response = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            if (start >= measureFrom) {
+                samples.computeIfAbsent(name, n -> new Samples())
+                        .add(System.nanoTime() - start, response == null || response.statusCode() >= 400);
+            }
+            return response;
+        }
+    }
+
+    public record Stats(long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+
+        static Stats of(List<Samples> parts, Duration duration) {
+            int count = parts.stream().mapToInt(part -> part.size).sum();
+            long[] latencies = new long[count];
+            long errors = 0;
+            int offset = 0;
+            for (Samples part : parts) {
+                System.arraycopy(part.nanos, 0, latencies, offset, part.size);
+                offset += part.size;
+                errors += part.errors;
+            }
+            Arrays.sort(latencies);
+            return new Stats(count, errors, count / (duration.toNanos() / 1e9),
+                    percentile(latencies, 50), percentile(latencies, 99));
+        }
+
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1e6;
+        }
+
+        String format() {
+            return String.format("%,9.0f req/s  p50=%8.2fms  p99=%8.2fms  requests=%,d  errors=%,d",
+                    throughput, p50Millis, p99Millis, requests, errors);
+        }
+    }
+
+    public record Result(String label, Stats total, Map<String, Stats> byName) {
+
+        static Result of(String label, List<Session> sessions, Duration duration) {
+            Map<String, List<Samples>> parts = new TreeMap<>();
+            for (Session session : sessions) {
+                session.samples.forEach((name, samples) -> parts.computeIfAbsent(name, n -> new ArrayList<>()).add(samples));
+            }
+            Map<String, Stats> byName = new TreeMap<>();
+            parts.forEach((name, samples) -> byName.put(name, Stats.of(samples, duration)));
+            return new Result(label, Stats.of(parts.values().stream().flatMap(List::stream).toList(), duration), byName);
+        }
+
+        public String format() {
+            StringBuilder report = new StringBuilder(String.format("%-24s %s%n", label, total.format()));
+            byName.forEach((name, stats) -> report.append(String.format("  %-22s %s%n", name, stats.format())));
+            return report.toString();
+        }
+    }
+
+    // Growable latency list of one user and request name (no sharing, no locking)
+    private static final class Samples {
+        private long[] nanos = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long latency, boolean error) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+            if (error) {
+                errors++;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.employeeprofile.backend.load;
+
+import com.employeeprofile.backend.EmployeeProfileBackendApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Replays a mix of user flows against a synthetic dataset and reports p50/p99 latency and
+// throughput per request:
+//   directory (40%)  a page of the directory at a random cursor, or one department
+//   search (25%)     employee name search, then a feedback full-text search
+//   profile (25%)    profile page of an employee, skewed towards a few popular ones
+//   create (10%)     new feedback, or (one time in three) a new absence request
+// Each user draws from its own seeded Random, so every run sends the same request sequence.
+// By default the app is started here on the embedded database and loaded with
+// SyntheticDataService; point load.base-url at an app started elsewhere (e.g. against
+// PostgreSQL in a container, with --synthetic-data.employees=... set) to measure that instead.
+// Opt-in: mvn test -Dtest=LoadHarnessBenchmark -Dbenchmark=true
+//   [-Dload.base-url=http://localhost:8080 -Dload.users=100 -Dload.seconds=60 -Dload.seed=42
+//    -Dload.employees=10000 -Dload.feedback=100000 -Dload.absences=30000]
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoadHarnessBenchmark {
+
+    private static final String BASE_URL = System.getProperty("load.base-url");
+    private static final int USERS = Integer.getInteger("load.users", 100);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 60);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 10_000);
+    private static final int FEEDBACK = Integer.getInteger("load.feedback", 100_000);
+    private static final int ABSENCES = Integer.getInteger("load.absences", 30_000);
+
+    private static final String[] NAME_QUERIES = {"anna", "mül", "schmidt", "kim", "lukas", "pat", "nguyen", "o'b",
+            "sofia", "weber"};
+    private static final String[] FEEDBACK_QUERIES = {"migration", "quarterly release", "customer escalation",
+            "onboarding", "security audit", "delegate", "stakeholders", "ownership"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Customer Support", "Marketing", "Finance",
+            "Legal"};
+    private static final String[] ABSENCE_TYPES = {"VACATION", "SICK_LEAVE", "REMOTE_WORK", "TRAINING"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void replayUserFlows() throws Exception {
+        if (BASE_URL != null) {
+            run(URI.create(BASE_URL));
+            return;
+        }
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(EmployeeProfileBackendApplication.class)
+                .profiles("test")
+                // Command-line arguments, so they win over application.properties and the test profile
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-harness;MODE=PostgreSQL",
+                        "--synthetic-data.employees=" + EMPLOYEES,
+                        "--synthetic-data.feedback=" + FEEDBACK,
+                        "--synthetic-data.absences=" + ABSENCES,
+                        "--synthetic-data.seed=" + SEED,
+                        "--absence.status.scheduler.enabled=false",
+                        "--logging.level.root=WARN")) {
+            int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+            run(URI.create("http://127.0.0.1:" + port));
+        }
+    }
+
+    private void run(URI baseUrl) throws Exception {
+        List<Long> ids = employeeIds(baseUrl);
+        Random[] randoms = new Random[USERS];
+        for (int user = 0; user < USERS; user++) {
+            randoms[user] = new Random(SEED * 31 + user);
+        }
+
+        LoadDriver driver = new LoadDriver(baseUrl, USERS, Duration.ofSeconds(10), Duration.ofSeconds(SECONDS));
+        LoadDriver.Result result = driver.run("user flows", session -> {
+            Random random = randoms[session.user()];
+            int flow = random.nextInt(100);
+            if (flow < 40) {
+                if (random.nextInt(4) == 0) {
+                    session.get("department", "/api/employees?department=" + encode(pick(DEPARTMENTS, random)));
+                } else {
+                    session.get("directory page", "/api/employees?limit=50&after=" + ids.get(random.nextInt(ids.size())));
+                }
+            } else if (flow < 65) {
+                session.get("name search", "/api/employees/search?name=" + encode(pick(NAME_QUERIES, random)));
+                session.get("feedback search", "/api/feedback/search?query=" + encode(pick(FEEDBACK_QUERIES, random)));
+            } else if (flow < 90) {
+                // Cubing a uniform draw puts about half of the views on the first 12% of employees
+                long id = ids.get((int) (Math.pow(random.nextDouble(), 3) * ids.size()));
+                session.get("profile", "/api/employees/" + id + "/profile?limit=10");
+            } else {
+                int receiver = random.nextInt(ids.size());
+                long employee = ids.get(receiver);
+                long giver = ids.get((receiver + 1 + random.nextInt(ids.size() - 1)) % ids.size());
+                if (random.nextInt(3) > 0) {
+                    session.post("create feedback", "/api/feedback", String.format(
+                            "{\"employee\":{\"id\":%d},\"feedbackGiver\":{\"id\":%d},"
+                                    + "\"content\":\"Great work on the %s.\",\"feedbackType\":\"POSITIVE\"}",
+                            employee, giver, pick(FEEDBACK_QUERIES, random)));
+                } else {
+                    LocalDate start = LocalDate.now().plusDays(1 + random.nextInt(120));
+                    session.post("create absence", "/api/absence-requests", String.format(
+                            "{\"employee\":{\"id\":%d},\"absenceType\":\"%s\",\"startDate\":\"%s\","
+                                    + "\"endDate\":\"%s\",\"reason\":\"Load test\"}",
+                            employee, pick(ABSENCE_TYPES, random), start, start.plusDays(random.nextInt(5))));
+                }
+            }
+        });
+        System.out.printf("%nbase-url=%s users=%d duration=%ds seed=%d employees=%d%n",
+                baseUrl, USERS, SECONDS, SEED, ids.size());
+        System.out.print(result.format());
+    }
+
+    // Every employee id, read page by page through the directory endpoint
+    private List<Long> employeeIds(URI baseUrl) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String path = "/api/employees?limit=200";
+        while (path != null) {
+            JsonNode page = objectMapper.readTree(baseUrl.resolve(path).toURL());
+            page.get("items").forEach(employee -> ids.add(employee.get("id").asLong()));
+            JsonNode next = page.get("nextCursor");
+            path = next == null || next.isNull() ? null : "/api/employees?limit=200&after=" + next.asLong();
+        }
+        return ids;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
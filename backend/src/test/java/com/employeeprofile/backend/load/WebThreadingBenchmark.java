@@ -0,0 +1,130 @@
+package com.employeeprofile.backend.load;
+
+import com.employeeprofile.backend.EmployeeProfileBackendApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// The same read workload (profile page, feedback feed, absence list) against the app started
+// once with Tomcat's platform thread pool and once with virtual threads. Each statement waits
+// db-latency-ms while holding its connection, standing in for the network round trip to
+// PostgreSQL that the embedded database does not have. Platform mode is capped at
+// threads.max requests in flight; virtual mode is capped by the connection pool (and by
+// web.max-concurrent-requests when set).
+// Opt-in: mvn test -Dtest=WebThreadingBenchmark -Dbenchmark=true
+//   [-Dbenchmark.users=400 -Dbenchmark.seconds=20 -Dbenchmark.db-latency-ms=2
+//    -Dbenchmark.threads-max=50 -Dbenchmark.pool-size=20 -Dbenchmark.max-concurrent-requests=0
+//    -Dbenchmark.rounds=2]
+// Both modes share one JVM, so they alternate and only the last round is reported: by then
+// neither mode benefits from JIT work done for the other.
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class WebThreadingBenchmark {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 400);
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 20);
+    private static final int DB_LATENCY_MS = Integer.getInteger("benchmark.db-latency-ms", 2);
+    private static final int THREADS_MAX = Integer.getInteger("benchmark.threads-max", 50);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 20);
+    private static final int MAX_CONCURRENT_REQUESTS = Integer.getInteger("benchmark.max-concurrent-requests", 0);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void platformVersusVirtualThreads() throws Exception {
+        List<String> reports = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            reports.clear();
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                reports.add(run(virtualThreads));
+            }
+        }
+        System.out.printf("%nusers=%d duration=%ds db-latency=%dms threads.max=%d pool=%d max-concurrent-requests=%d%n",
+                USERS, SECONDS, DB_LATENCY_MS, THREADS_MAX, POOL_SIZE, MAX_CONCURRENT_REQUESTS);
+        reports.forEach(System.out::print);
+    }
+
+    private String run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(EmployeeProfileBackendApplication.class)
+                .profiles("test")
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new DatabaseLatency()))
+                // Command-line arguments, so they win over application.properties and the test profile
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + THREADS_MAX,
+                        "--spring.datasource.url=jdbc:h2:mem:threading-" + mode + ";MODE=PostgreSQL",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--web.max-concurrent-requests=" + MAX_CONCURRENT_REQUESTS,
+                        "--absence.status.scheduler.enabled=false",
+                        "--logging.level.root=WARN")) {
+            int port = ((ServletWebServerApplicationContext) app).getWebServer().getPort();
+            URI baseUrl = URI.create("http://127.0.0.1:" + port);
+            List<Long> ids = new ArrayList<>();
+            JsonNode employees = objectMapper.readTree(baseUrl.resolve("/api/employees").toURL());
+            employees.forEach(employee -> ids.add(employee.get("id").asLong()));
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            LoadDriver driver = new LoadDriver(baseUrl, USERS, Duration.ofSeconds(5), Duration.ofSeconds(SECONDS));
+            LoadDriver.Result result = driver.run(mode + " threads", session -> {
+                long id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                session.get("profile", "/api/employees/" + id + "/profile?limit=10");
+                session.get("feedback feed", "/api/feedback?limit=20&employeeId=" + id);
+                session.get("absences", "/api/absence-requests/employee/" + id);
+            });
+            return result.format() + String.format("  %-22s %d%n", "peak platform threads", threads.getPeakThreadCount());
+        }
+    }
+
+    // Wraps the application DataSource so every statement costs a database round trip
+    private static final class DatabaseLatency implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return withLatency(super.getConnection());
+                }
+            };
+        }
+
+        private static Connection withLatency(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                            Thread.sleep(DB_LATENCY_MS);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.employeeprofile.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeNameIndexTests {
+
+    @Test
+    void ranksNamePrefixThenWordPrefixThenSubstring() {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        index.put(1L, "Maria", "Andersson");
+        index.put(2L, "Lisa", "Anderson");
+        index.put(3L, "Anders", "Berg");
+        index.put(4L, "Tom", "Schmidt");
+
+        assertThat(index.search("anders", 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("ANDERS", 2)).containsExactly(3L, 2L);
+        assertThat(index.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    void shortQueriesAndUpdatesAreHandled() {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        index.put(1L, "Tom", "Schmidt");
+        index.put(2L, "Anna", "Mueller");
+
+        assertThat(index.search("t", 10)).containsExactly(1L);
+        assertThat(index.search("a mu", 10)).containsExactly(2L);
+
+        index.put(1L, "Thomas", "Smith");
+        assertThat(index.search("schmidt", 10)).isEmpty();
+        assertThat(index.search("smith", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void repeatedTrigramsAndRenamesYieldEachNameOnce() {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        index.put(1L, "Hannah", "Hanna");
+        index.put(2L, "Anna", "Hannah");
+        index.put(3L, "Johanna", "Berg");
+
+        assertThat(index.search("anna", 10)).containsExactly(2L, 1L, 3L);
+        assertThat(index.search("han", 2)).containsExactly(1L, 2L);
+
+        for (int i = 0; i < 20; i++) {
+            index.put(3L, "Johanna", "Berg " + i);
+            index.put(3L, "Johanna", "Berg");
+        }
+        index.put(1L, "Tom", "Wu");
+        assertThat(index.search("hannah", 10)).containsExactly(2L);
+        assertThat(index.search("anna", 10)).containsExactly(2L, 3L);
+        assertThat(index.search("berg 1", 10)).isEmpty();
+        assertThat(index.search("to", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void emptyQueryReturnsShortestNamesFirst() {
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        index.put(1L, "Elena", "Kowalski");
+        index.put(2L, "Tom", "Wu");
+
+        List<Long> ids = index.search("  ", 10);
+        assertThat(ids).containsExactly(2L, 1L);
+    }
+}
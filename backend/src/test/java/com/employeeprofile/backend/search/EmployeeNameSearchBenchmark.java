@@ -0,0 +1,51 @@
+package com.employeeprofile.backend.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Latency of the in-process name index at 10k/100k/1M employees.
+// Opt-in: mvn test -Dtest=EmployeeNameSearchBenchmark -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EmployeeNameSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Sarah", "Michael", "Emily", "James", "Lisa", "Anna", "Tom",
+            "Sophie", "Marcus", "Elena", "Jonas", "Mia", "Lukas", "Lea", "Felix", "Hannah", "Paul", "Laura"};
+    private static final String[] LAST_NAMES = {"Johnson", "Chen", "Rodriguez", "Wilson", "Anderson", "Mueller",
+            "Schmidt", "Weber", "Fischer", "Kowalski", "Wagner", "Becker", "Hoffmann", "Schulz", "Koch", "Richter"};
+    private static final String[] QUERIES = {"an", "son", "anna mu", "lukas", "ric", "xyz", "michael chen12"};
+
+    @Test
+    void searchLatencyByIndexSize() {
+        for (int size : new int[]{10_000, 100_000, 1_000_000}) {
+            EmployeeNameIndex index = build(size);
+            for (String query : QUERIES) {
+                for (int i = 0; i < 200; i++) {
+                    index.search(query, 20);
+                }
+                long[] samples = new long[500];
+                for (int i = 0; i < samples.length; i++) {
+                    long start = System.nanoTime();
+                    index.search(query, 20);
+                    samples[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(samples);
+                System.out.printf("size=%,9d query=%-16s p50=%8.1fus p99=%8.1fus%n", size, '"' + query + '"',
+                        samples[samples.length / 2] / 1000.0, samples[samples.length * 99 / 100] / 1000.0);
+            }
+        }
+    }
+
+    private static EmployeeNameIndex build(int size) {
+        Random random = new Random(42);
+        EmployeeNameIndex index = new EmployeeNameIndex();
+        for (long id = 1; id <= size; id++) {
+            // A numeric suffix keeps names realistic in cardinality
+            index.put(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    LAST_NAMES[random.nextInt(LAST_NAMES.length)] + random.nextInt(size / 10 + 1));
+        }
+        return index;
+    }
+}
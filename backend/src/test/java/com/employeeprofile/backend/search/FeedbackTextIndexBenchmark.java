@@ -0,0 +1,57 @@
+package com.employeeprofile.backend.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Build time and search latency of the in-process feedback text index at 10k/100k/500k
+// feedback of ~40 words each. Opt-in: mvn test -Dtest=FeedbackTextIndexBenchmark -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FeedbackTextIndexBenchmark {
+
+    private static final String[] COMMON = {"great", "work", "team", "project", "communication", "delivery",
+            "quality", "support", "meeting", "feedback", "improve", "deadline", "customer", "code", "review"};
+    private static final String[] QUERIES = {"great work", "communication", "customer deadline quality",
+            "word123", "word4567 review", "nonexistent"};
+
+    @Test
+    void searchLatencyByIndexSize() {
+        for (int size : new int[]{10_000, 100_000, 500_000}) {
+            long start = System.nanoTime();
+            FeedbackTextIndex index = build(size);
+            System.out.printf("size=%,9d build=%,8.0fms%n", size, (System.nanoTime() - start) / 1e6);
+            for (String query : QUERIES) {
+                for (int i = 0; i < 50; i++) {
+                    index.search(query, 21);
+                }
+                long[] samples = new long[200];
+                for (int i = 0; i < samples.length; i++) {
+                    long begin = System.nanoTime();
+                    index.search(query, 21);
+                    samples[i] = System.nanoTime() - begin;
+                }
+                Arrays.sort(samples);
+                System.out.printf("size=%,9d query=%-28s p50=%9.1fus p99=%9.1fus%n", size, '"' + query + '"',
+                        samples[samples.length / 2] / 1000.0, samples[samples.length * 99 / 100] / 1000.0);
+            }
+        }
+    }
+
+    private static FeedbackTextIndex build(int size) {
+        Random random = new Random(42);
+        FeedbackTextIndex index = new FeedbackTextIndex();
+        StringBuilder content = new StringBuilder();
+        for (long id = 1; id <= size; id++) {
+            content.setLength(0);
+            for (int w = 0; w < 40; w++) {
+                // Mostly a small shared vocabulary, with a long tail of rare words
+                content.append(random.nextInt(4) == 0 ? "word" + random.nextInt(10_000)
+                        : COMMON[random.nextInt(COMMON.length)]).append(' ');
+            }
+            index.put(id, content.toString(), random.nextBoolean() ? content.substring(0, 80) : null, true);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,75 @@
+package com.employeeprofile.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedbackTextIndexTests {
+
+    @Test
+    void requiresEveryTermAndRanksContentAboveAiContent() {
+        FeedbackTextIndex index = new FeedbackTextIndex();
+        index.put(1L, "Great teamwork on the release", null, true);
+        index.put(2L, "Solid quarter", "Great teamwork and a smooth release", true);
+        index.put(3L, "Great attitude", null, true);
+        index.put(4L, "Great teamwork, great release", null, false);
+
+        assertThat(index.search("great release", 10)).extracting(FeedbackTextIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(index.search("TEAMWORK the", 10)).extracting(FeedbackTextIndex.Match::id).containsExactly(1L, 2L);
+        assertThat(index.search("great", 1)).hasSize(1);
+        assertThat(index.search("great missing", 10)).isEmpty();
+        assertThat(index.search("the and", 10)).isEmpty();
+
+        index.setListed(4L, true);
+        assertThat(index.search("release", 10)).extracting(FeedbackTextIndex.Match::id).contains(4L);
+    }
+
+    @Test
+    void replacedDocumentsAreSearchedByTheirNewText() {
+        FeedbackTextIndex index = new FeedbackTextIndex();
+        index.put(1L, "Needs to improve documentation", null, true);
+        index.put(1L, "Needs to improve documentation", "Documentation could be more thorough", true);
+
+        assertThat(index.search("thorough", 10)).extracting(FeedbackTextIndex.Match::id).containsExactly(1L);
+        assertThat(index.search("documentation", 10)).hasSize(1);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // Only live documents count towards a term's document frequency, however often they are edited
+    @Test
+    void repeatedReplacesLeaveScoresAsAFreshIndex() {
+        FeedbackTextIndex edited = new FeedbackTextIndex();
+        FeedbackTextIndex fresh = new FeedbackTextIndex();
+        for (long id = 1; id <= 3; id++) {
+            edited.put(id, "Great release work", null, true);
+            fresh.put(id, "Great release work", null, true);
+        }
+        for (int i = 0; i < 50; i++) {
+            edited.put(1L, "Great release work", "Revision " + i, true);
+            edited.put(2L, "Great migration work", null, true);
+            edited.put(2L, "Great release work", null, true);
+        }
+        edited.put(1L, "Great release work", null, true);
+
+        assertThat(edited.search("release", 10)).isEqualTo(fresh.search("release", 10));
+        assertThat(edited.search("release", 10)).allSatisfy(match -> assertThat(match.score()).isPositive());
+        assertThat(edited.search("migration", 10)).isEmpty();
+        assertThat(edited.search("revision", 10)).isEmpty();
+        assertThat(edited.size()).isEqualTo(3);
+    }
+
+    @Test
+    void highlightsMatchesInAnEscapedExcerpt() {
+        Set<String> terms = FeedbackTextIndex.terms("release");
+        assertThat(FeedbackTextIndex.highlight("Shipped <b>the</b> Release & more", terms))
+                .isEqualTo("Shipped &lt;b&gt;the&lt;/b&gt; <mark>Release</mark> &amp; more");
+        assertThat(FeedbackTextIndex.highlight(null, terms)).isNull();
+
+        String longText = "word ".repeat(100) + "release " + "word ".repeat(100);
+        String excerpt = FeedbackTextIndex.highlight(longText, terms);
+        assertThat(excerpt).startsWith("word word word word word <mark>release</mark> word");
+        assertThat(excerpt.split(" ")).hasSize(35);
+    }
+}
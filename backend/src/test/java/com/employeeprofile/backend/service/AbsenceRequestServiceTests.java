@@ -0,0 +1,250 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.dto.AbsenceCalendar;
+import com.employeeprofile.backend.dto.AbsenceCalendarEntry;
+import com.employeeprofile.backend.dto.AbsenceReview;
+import com.employeeprofile.backend.dto.AbsenceStatusChange;
+import com.employeeprofile.backend.dto.AbsenceTypeTotal;
+import com.employeeprofile.backend.dto.DepartmentAbsenceTotal;
+import com.employeeprofile.backend.entity.AbsenceAggregate;
+import com.employeeprofile.backend.entity.AbsenceRequest;
+import com.employeeprofile.backend.entity.AbsenceStatus;
+import com.employeeprofile.backend.entity.AbsenceType;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.EmployeeRole;
+import com.employeeprofile.backend.repository.AbsenceRequestRepository;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AbsenceRequestServiceTests {
+
+    private static final String DEPARTMENT = "Calendar QA";
+    private static final LocalDate MONDAY = LocalDate.of(2031, 3, 3);
+
+    @Autowired
+    private AbsenceRequestService absenceRequestService;
+
+    @Autowired
+    private AbsenceRequestRepository absenceRequestRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AbsenceAggregateService absenceAggregateService;
+
+    @Autowired
+    private AbsenceStatusScheduler absenceStatusScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void calendarCountsAbsencesOverlappingEachDay() {
+        Employee ada = employee("CAL001", "Ada");
+        Employee max = employee("CAL002", "Max");
+        absence(ada, AbsenceType.VACATION, MONDAY.minusDays(3), MONDAY.plusDays(1));    // starts before the week
+        absence(max, AbsenceType.SICK_LEAVE, MONDAY.plusDays(1), MONDAY.plusDays(2));
+        absence(max, AbsenceType.VACATION, MONDAY.plusDays(6), MONDAY.plusDays(20));     // runs past the week
+        absence(ada, AbsenceType.VACATION, MONDAY.plusDays(8), MONDAY.plusDays(9));      // outside the week
+
+        AbsenceCalendar week = absenceRequestService.getCalendar(MONDAY, MONDAY.plusDays(6), DEPARTMENT, null);
+
+        assertThat(week.absences()).hasSize(3);
+        assertThat(week.days()).extracting(AbsenceCalendar.Day::absent).containsExactly(1, 2, 1, 0, 0, 0, 1);
+        assertThat(week.days().get(1).absences())
+                .extracting(index -> week.absences().get(index).employeeName())
+                .containsExactlyInAnyOrder("Ada Tester", "Max Tester");
+
+        AbsenceCalendar sickOnly = absenceRequestService.getCalendar(MONDAY, MONDAY.plusDays(6), DEPARTMENT,
+                AbsenceType.SICK_LEAVE);
+        assertThat(sickOnly.absences()).extracting(AbsenceCalendarEntry::absenceType)
+                .containsExactly(AbsenceType.SICK_LEAVE);
+    }
+
+    @Test
+    void calendarRejectsInvertedOrOversizedRanges() {
+        assertThatThrownBy(() -> absenceRequestService.getCalendar(MONDAY, MONDAY.minusDays(1), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> absenceRequestService.getCalendar(MONDAY, MONDAY.plusYears(2), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createdRequestsUpdateAggregatesIncrementallyAndRebuildAgrees() {
+        Employee ada = employee("CAL003", "Ada");
+        // 3 days in January and 2 in February, then 4 more days in February
+        absenceRequestService.createAbsenceRequest(
+                new AbsenceRequest(ada, AbsenceType.VACATION, LocalDate.of(2031, 1, 29), LocalDate.of(2031, 2, 2), "Ski"));
+        absenceRequestService.createAbsenceRequest(
+                new AbsenceRequest(ada, AbsenceType.VACATION, LocalDate.of(2031, 2, 10), LocalDate.of(2031, 2, 13), "Ski"));
+
+        List<String> incremental = describe(absenceAggregateService.getEmployeeAggregates(ada.getId(), 2031));
+        assertThat(incremental).containsExactly("1 VACATION 3d 1r", "2 VACATION 6d 1r");
+        assertThat(absenceAggregateService.getTypeTotals(2031, 2, DEPARTMENT))
+                .containsExactly(new AbsenceTypeTotal(AbsenceType.VACATION, 6, 1));
+
+        absenceAggregateService.rebuild();
+        assertThat(describe(absenceAggregateService.getEmployeeAggregates(ada.getId(), 2031))).isEqualTo(incremental);
+        assertThat(absenceAggregateService.getDepartmentTotals(2031, null))
+                .contains(new DepartmentAbsenceTotal(DEPARTMENT, AbsenceType.VACATION, 9, 2));
+    }
+
+    // Requests from before the approval workflow have no status until the backfill reaches them
+    @Test
+    void requestsWithoutStatusAreCounted() {
+        Employee ada = employee("CAL008", "Ada");
+        absence(ada, AbsenceType.VACATION, LocalDate.of(2033, 4, 4), LocalDate.of(2033, 4, 6));
+        jdbcTemplate.update("UPDATE absence_requests SET status = NULL WHERE employee_id = ?", ada.getId());
+
+        assertThat(absenceRequestService.getCalendar(LocalDate.of(2033, 4, 1), LocalDate.of(2033, 4, 30),
+                DEPARTMENT, null).absences()).hasSize(1);
+        absenceAggregateService.rebuild();
+        assertThat(describe(absenceAggregateService.getEmployeeAggregates(ada.getId(), 2033)))
+                .containsExactly("4 VACATION 3d 1r");
+    }
+
+    @Test
+    void reviewIsAllOrNothingAndRejectionLeavesAggregates() {
+        Employee ada = employee("CAL004", "Ada");
+        Employee boss = employee("CAL005", "Boss");
+        boss.setRole(EmployeeRole.MANAGER);
+        AbsenceRequest first = absenceRequestService.createAbsenceRequest(
+                new AbsenceRequest(ada, AbsenceType.VACATION, LocalDate.of(2032, 5, 3), LocalDate.of(2032, 5, 4), "Trip"));
+        AbsenceRequest second = absenceRequestService.createAbsenceRequest(
+                new AbsenceRequest(ada, AbsenceType.VACATION, LocalDate.of(2032, 5, 10), LocalDate.of(2032, 5, 12), "Trip"));
+        assertThat(first.getStatus()).isEqualTo(AbsenceStatus.PENDING);
+        assertThat(absenceRequestService.getApprovalQueue(DEPARTMENT, first.getId() - 1, 1).nextCursor())
+                .isEqualTo(first.getId());
+
+        List<AbsenceStatusChange> approved = absenceRequestService.review(new AbsenceReview(boss.getId(),
+                List.of(new AbsenceReview.Item(first.getId(), first.getVersion()))), AbsenceStatus.APPROVED);
+        assertThat(approved).extracting(AbsenceStatusChange::status).containsExactly(AbsenceStatus.APPROVED);
+
+        // The first request is no longer pending, so the whole batch is refused
+        AbsenceReview stale = new AbsenceReview(boss.getId(), List.of(
+                new AbsenceReview.Item(first.getId(), first.getVersion()),
+                new AbsenceReview.Item(second.getId(), second.getVersion())));
+        assertThatThrownBy(() -> absenceRequestService.review(stale, AbsenceStatus.REJECTED))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessageContaining(String.valueOf(first.getId()));
+        assertThat(absenceRequestRepository.findById(second.getId()).orElseThrow().getStatus())
+                .isEqualTo(AbsenceStatus.PENDING);
+        assertThatThrownBy(() -> absenceRequestService.review(new AbsenceReview(ada.getId(), List.of(
+                new AbsenceReview.Item(second.getId(), null))), AbsenceStatus.REJECTED))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        absenceRequestService.review(new AbsenceReview(boss.getId(), List.of(
+                new AbsenceReview.Item(second.getId(), second.getVersion()))), AbsenceStatus.REJECTED);
+        assertThat(describe(absenceAggregateService.getEmployeeAggregates(ada.getId(), 2032)))
+                .containsExactly("5 VACATION 2d 1r");
+        assertThat(absenceRequestService.getApprovalQueue(DEPARTMENT, null, 50).items()).isEmpty();
+    }
+
+    @Test
+    void schedulerStartsAndCompletesApprovedAbsences() {
+        Employee ada = employee("CAL006", "Ada");
+        LocalDate today = LocalDate.of(2033, 6, 15);
+        AbsenceRequest ended = approved(ada, today.minusDays(10), today.minusDays(1));
+        AbsenceRequest running = approved(ada, today.minusDays(1), today.plusDays(1));
+        AbsenceRequest upcoming = approved(ada, today.plusDays(1), today.plusDays(3));
+        AbsenceRequest pending = absenceRequestService.createAbsenceRequest(
+                new AbsenceRequest(ada, AbsenceType.VACATION, today, today, "Pending"));
+
+        AbsenceStatusScheduler.TransitionResult result = absenceStatusScheduler.transition(today);
+
+        assertThat(result).isEqualTo(new AbsenceStatusScheduler.TransitionResult(1, 1));
+        assertThat(statusOf(ended)).isEqualTo(AbsenceStatus.COMPLETED);
+        assertThat(statusOf(running)).isEqualTo(AbsenceStatus.IN_PROGRESS);
+        assertThat(statusOf(upcoming)).isEqualTo(AbsenceStatus.APPROVED);
+        assertThat(statusOf(pending)).isEqualTo(AbsenceStatus.PENDING);
+        assertThat(absenceRequestRepository.findById(running.getId()).orElseThrow().getVersion())
+                .isEqualTo(running.getVersion() + 1);
+
+        // The next day the running absence has ended
+        assertThat(absenceStatusScheduler.transition(today.plusDays(2)))
+                .isEqualTo(new AbsenceStatusScheduler.TransitionResult(1, 1));
+        assertThat(statusOf(running)).isEqualTo(AbsenceStatus.COMPLETED);
+    }
+
+    // Each request in its own committed transaction, both creating the same new aggregate row
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentRequestsForANewMonthBothCount() throws Exception {
+        Employee ada = employee("CAL007", "Ada");
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<AbsenceRequest>> created = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                LocalDate day = LocalDate.of(2034, 9, 1 + i);
+                created.add(executor.submit(() -> {
+                    start.await();
+                    return absenceRequestService.createAbsenceRequest(
+                            new AbsenceRequest(ada, AbsenceType.VACATION, day, day, "Concurrent"));
+                }));
+            }
+            start.countDown();
+            for (Future<AbsenceRequest> request : created) {
+                assertThat(request.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+            }
+            assertThat(describe(absenceAggregateService.getEmployeeAggregates(ada.getId(), 2034)))
+                    .containsExactly("9 VACATION 8d 8r");
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM absence_requests WHERE employee_id = ?", ada.getId());
+            jdbcTemplate.update("DELETE FROM absence_aggregates WHERE employee_id = ?", ada.getId());
+            employeeRepository.deleteById(ada.getId());
+        }
+    }
+
+    private AbsenceRequest approved(Employee employee, LocalDate start, LocalDate end) {
+        AbsenceRequest request = new AbsenceRequest(employee, AbsenceType.VACATION, start, end, "Approved");
+        request.setStatus(AbsenceStatus.APPROVED);
+        return absenceRequestRepository.saveAndFlush(request);
+    }
+
+    private AbsenceStatus statusOf(AbsenceRequest request) {
+        return absenceRequestRepository.findById(request.getId()).orElseThrow().getStatus();
+    }
+
+    private static List<String> describe(List<AbsenceAggregate> aggregates) {
+        return aggregates.stream()
+                .map(a -> a.getMonth() + " " + a.getAbsenceType() + " " + a.getDays() + "d " + a.getRequests() + "r")
+                .toList();
+    }
+
+    private Employee employee(String employeeId, String firstName) {
+        Employee employee = new Employee(firstName, "Tester", employeeId.toLowerCase() + "@company.com", employeeId,
+                "Tester", DEPARTMENT);
+        employee.setHireDate(LocalDate.of(2020, 1, 1));
+        return employeeRepository.save(employee);
+    }
+
+    private void absence(Employee employee, AbsenceType type, LocalDate start, LocalDate end) {
+        absenceRequestRepository.save(new AbsenceRequest(employee, type, start, end, "Test"));
+    }
+}
@@ -0,0 +1,152 @@
+package com.employeeprofile.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// AI enhancement cache: shared loads, no cached failures, one stat per lookup, and a
+// persistent tier whose entries expire, get refreshed and are purged
+class AiEnhancementCacheTests {
+
+    private final AiEnhancementCache cache = new AiEnhancementCache(null, new SimpleMeterRegistry(),
+            100, Duration.ofHours(1), false, "");
+
+    @Test
+    void concurrentCallersShareOneUpstreamCallWithoutBlockingOtherKeys() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("slow", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "enhanced";
+            }), executor);
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("slow", () -> {
+                calls.incrementAndGet();
+                return "duplicate";
+            }), executor);
+
+            // Another key loads while the slow upstream call is still running
+            assertThat(CompletableFuture.supplyAsync(() -> cache.get("other", () -> "fast"), executor)
+                    .get(5, TimeUnit.SECONDS)).isEqualTo("fast");
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("enhanced");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("enhanced");
+            assertThat(calls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("upstream down");
+
+        assertThat(cache.find("key")).isEmpty();
+        assertThat(cache.get("key", () -> "enhanced")).isEqualTo("enhanced");
+        assertThat(cache.find("key")).contains("enhanced");
+    }
+
+    @Test
+    void errorsCompleteTheSharedLoad() throws Exception {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new ExceptionInInitializerError("client failed to load");
+        })).isInstanceOf(ExceptionInInitializerError.class);
+
+        // The failed load is not left behind for the next caller to wait on
+        assertThat(CompletableFuture.supplyAsync(() -> cache.get("key", () -> "enhanced"))
+                .get(5, TimeUnit.SECONDS)).isEqualTo("enhanced");
+    }
+
+    @Test
+    void lookupBeforeLoadCountsEachRequestOnce() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiEnhancementCache counted = new AiEnhancementCache(null, registry, 100, Duration.ofHours(1), false, "");
+
+        // A miss: find, then get (as FeedbackService does)
+        assertThat(counted.find("key")).isEmpty();
+        counted.get("key", () -> "enhanced");
+        // A hit answered by find alone
+        assertThat(counted.find("key")).contains("enhanced");
+
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void storedEntriesAreRefreshedAfterExpiryAndPurged() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:ai-enhancement-cache;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE ai_enhancement_cache (cache_key VARCHAR(64) PRIMARY KEY, " +
+                "enhanced_text TEXT NOT NULL, upstream_millis BIGINT NOT NULL, created_at TIMESTAMP)");
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<AiEnhancementCache> restart = () -> new AiEnhancementCache(jdbcTemplate, new SimpleMeterRegistry(),
+                100, Duration.ofHours(1), true, "jdbc:h2:mem:ai-enhancement-cache");
+
+        restart.get().get("key", () -> "first " + calls.incrementAndGet());
+        // A restarted instance is served from the table
+        assertThat(restart.get().get("key", () -> "second " + calls.incrementAndGet())).isEqualTo("first 1");
+
+        // Once the stored entry expired it is fetched again, and the new result restarts the TTL
+        jdbcTemplate.update("UPDATE ai_enhancement_cache SET created_at = ?", LocalDateTime.now().minusHours(2));
+        assertThat(restart.get().get("key", () -> "second " + calls.incrementAndGet())).isEqualTo("second 2");
+        assertThat(restart.get().get("key", () -> "third " + calls.incrementAndGet())).isEqualTo("second 2");
+
+        jdbcTemplate.update("INSERT INTO ai_enhancement_cache VALUES ('old', 'stale', 10, ?)", LocalDateTime.now().minusDays(2));
+        restart.get().purgeExpired();
+        assertThat(jdbcTemplate.queryForList("SELECT cache_key FROM ai_enhancement_cache", String.class))
+                .containsExactly("key");
+    }
+
+    // The database's clock runs 12 hours behind the JVM's: entries are still fresh for the TTL
+    @Test
+    void storedEntriesUseTheJvmClock() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:ai-enhancement-cache-zone;DB_CLOSE_DELAY=-1;MODE=PostgreSQL", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("SET TIME ZONE 'Etc/GMT+12'");
+        jdbcTemplate.execute("CREATE TABLE ai_enhancement_cache (cache_key VARCHAR(64) PRIMARY KEY, " +
+                "enhanced_text TEXT NOT NULL, upstream_millis BIGINT NOT NULL, created_at TIMESTAMP)");
+        Supplier<AiEnhancementCache> restart = () -> new AiEnhancementCache(jdbcTemplate, new SimpleMeterRegistry(),
+                100, Duration.ofHours(1), true, "jdbc:h2:mem:ai-enhancement-cache-zone");
+        try {
+            restart.get().get("key", () -> "first");
+            assertThat(restart.get().get("key", () -> "second")).isEqualTo("first");
+            restart.get().purgeExpired();
+            assertThat(jdbcTemplate.queryForList("SELECT cache_key FROM ai_enhancement_cache", String.class))
+                    .containsExactly("key");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.employeeprofile.backend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Enhance path (HTTP call + response parsing) against a local stub, comparing the configured
+// pooled client with a plain RestTemplate (HttpURLConnection, at most 5 idle connections kept).
+// Opt-in: mvn test -Dtest=AiEnhancementServiceBenchmark -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(properties = "ai.enhancement.cache.maximum-size=0")
+@ActiveProfiles("test")
+class AiEnhancementServiceBenchmark {
+
+    private static final String COMPLETION =
+            "{\"choices\":[{\"message\":{\"content\":\" <s>Lisa</s> consistently delivers <b>excellent</b> work. \"}}]}";
+    private static final int CALLS = 2_000;
+    private static final int CLIENTS = 8;
+
+    private static HttpServer openRouterStub;
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    @Autowired
+    private AiEnhancementService aiEnhancementService;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        // Without TCP_NODELAY the stub's split header/body writes add ~40ms of delayed-ACK latency
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        openRouterStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        openRouterStub.createContext("/chat/completions", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = COMPLETION.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        openRouterStub.setExecutor(Executors.newFixedThreadPool(CLIENTS));
+        openRouterStub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        openRouterStub.stop(0);
+    }
+
+    @DynamicPropertySource
+    static void openRouterUrl(DynamicPropertyRegistry registry) {
+        registry.add("openrouter.api.url",
+                () -> "http://127.0.0.1:" + openRouterStub.getAddress().getPort() + "/chat/completions");
+    }
+
+    @Test
+    void enhanceLatency() throws Exception {
+        for (int round = 0; round < 3; round++) {
+            run("default", new RestTemplate());
+            run("pooled", restTemplate);
+        }
+        ReflectionTestUtils.setField(aiEnhancementService, "restTemplate", restTemplate);
+    }
+
+    @Test
+    void responseParsing() throws Exception {
+        for (int i = 0; i < 50_000; i++) {
+            aiEnhancementService.extractEnhancedText(COMPLETION);
+        }
+        int iterations = 200_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            aiEnhancementService.extractEnhancedText(COMPLETION);
+        }
+        System.out.printf("parse: %.2fus/op%n", (System.nanoTime() - start) / 1000.0 / iterations);
+    }
+
+    private void run(String label, RestTemplate client) throws Exception {
+        ReflectionTestUtils.setField(aiEnhancementService, "restTemplate", client);
+        measure(CALLS / 4);  // warm-up
+        long start = System.nanoTime();
+        long[] samples = measure(CALLS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(samples);
+        System.out.printf("%-7s clients=%d p50=%7.1fus p99=%7.1fus throughput=%,.0f req/s%n", label, CLIENTS,
+                samples[samples.length / 2] / 1000.0, samples[samples.length * 99 / 100] / 1000.0, CALLS / seconds);
+    }
+
+    private long[] measure(int calls) throws Exception {
+        long[] samples = new long[calls];
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            Future<?>[] futures = new Future<?>[calls];
+            for (int i = 0; i < calls; i++) {
+                int slot = i;
+                futures[i] = clients.submit(() -> {
+                    // Unique text so every call reaches the stub
+                    String text = "Feedback " + sequence.incrementAndGet();
+                    long callStart = System.nanoTime();
+                    aiEnhancementService.enhance(text);
+                    samples[slot] = System.nanoTime() - callStart;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        return samples;
+    }
+}
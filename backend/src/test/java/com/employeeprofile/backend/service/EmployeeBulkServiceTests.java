@@ -0,0 +1,121 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.dto.ImportResult;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.EmploymentType;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import com.employeeprofile.backend.service.EmployeeBulkService.Format;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bulk import validates each row, skips bad ones, and round-trips through the export
+@SpringBootTest(properties = "employee.import.batch-size=2")
+@ActiveProfiles("test")
+class EmployeeBulkServiceTests {
+
+    private static final String CSV = """
+            employeeId,firstName,lastName,email,position,department,hireDate,employmentType,salary,bio
+            IMP001,Nora,Klein,nora.klein@company.com,Analyst,Finance,2024-03-01,part_time,48000,"Numbers, mostly"
+            IMP002,Jan,Vogel,not-an-email,Analyst,Finance,2024-03-01,,,
+            IMP003,Ida,Braun,ida.braun@company.com,Designer,Design,yesterday,,,
+            IMP001,Otto,Lang,otto.lang@company.com,Analyst,Finance,2024-03-01,,,
+            EMP001,Eva,Roth,eva.roth@company.com,Analyst,Finance,2024-03-01,,,
+            IMP004,Paul,Frank,paul.frank@company.com,Engineer,Engineering,2023-11-15,,,
+            """;
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeNameSearch employeeNameSearch;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void removeImportedEmployees() {
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id LIKE 'IMP%'");
+        employeeNameSearch.rebuild();
+    }
+
+    @Test
+    void importsValidRowsAndReportsTheRest() throws Exception {
+        ImportResult result = employeeBulkService.importEmployees(stream(CSV), Format.CSV);
+
+        assertThat(result.rowsRead()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(4);
+        assertThat(result.errors()).containsExactlyInAnyOrder(
+                "line 3: email: Email should be valid",
+                "line 4: hireDate: invalid value 'yesterday'",
+                "line 5: duplicate employeeId or email in input",
+                "line 6: employeeId or email already exists");
+
+        Employee nora = employeeRepository.findByEmployeeId("IMP001").orElseThrow();
+        assertThat(nora.getBio()).isEqualTo("Numbers, mostly");
+        assertThat(nora.getEmploymentType()).isEqualTo(EmploymentType.PART_TIME);
+        assertThat(nora.getSalary()).isEqualByComparingTo(new BigDecimal("48000"));
+        assertThat(employeeService.searchByName("paul frank")).isNotEmpty();
+    }
+
+    @Test
+    void exportCanBeImportedAgain() throws Exception {
+        employeeBulkService.importEmployees(stream(CSV), Format.CSV);
+        for (Format format : Format.values()) {
+            ByteArrayOutputStream export = new ByteArrayOutputStream();
+            long exported = employeeBulkService.exportEmployees(export, format);
+            assertThat(exported).isEqualTo(employeeRepository.count());
+
+            // Every exported row is valid; all of them already exist
+            ImportResult reimport = employeeBulkService.importEmployees(
+                    new ByteArrayInputStream(export.toByteArray()), format);
+            assertThat(reimport.rowsRead()).isEqualTo(exported);
+            assertThat(reimport.imported()).isZero();
+            assertThat(reimport.errors()).allMatch(error -> error.endsWith("employeeId or email already exists"));
+        }
+    }
+
+    @Test
+    void multiLineFieldsSurviveExportAndImport() throws Exception {
+        String bio = "Leads the platform team.\nLikes \"boring\" technology, and tests.";
+        String csv = "employeeId,firstName,lastName,email,position,department,hireDate,bio\n" +
+                "IMP010,Lena,Hart,lena.hart@company.com,Lead,Engineering,2022-05-02," +
+                "\"Leads the platform team.\nLikes \"\"boring\"\" technology, and tests.\"\n" +
+                "IMP011,Tom,Berg,not-an-email,Lead,Engineering,2022-05-02,\n";
+        ImportResult result = employeeBulkService.importEmployees(stream(csv), Format.CSV);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly("line 4: email: Email should be valid");
+        assertThat(employeeRepository.findByEmployeeId("IMP010").orElseThrow().getBio()).isEqualTo(bio);
+
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        employeeBulkService.exportEmployees(export, Format.CSV);
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id LIKE 'IMP%'");
+
+        ImportResult reimport = employeeBulkService.importEmployees(
+                new ByteArrayInputStream(export.toByteArray()), Format.CSV);
+        assertThat(reimport.imported()).isEqualTo(1);
+        assertThat(employeeRepository.findByEmployeeId("IMP010").orElseThrow().getBio()).isEqualTo(bio);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.dto.AbsenceRequestSummary;
+import com.employeeprofile.backend.dto.EmployeeProfile;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeProfileServiceTests {
+
+    @Autowired
+    private EmployeeProfileService employeeProfileService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private AbsenceRequestService absenceRequestService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void profileMatchesTheSeparateListsWithinTheLimit() throws Exception {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        List<FeedbackSummary> received = feedbackService.getFeedbackSummariesForEmployee(developer.getId());
+        List<FeedbackSummary> given = feedbackService.getFeedbackSummariesGivenBy(developer.getId());
+        List<AbsenceRequestSummary> absences = absenceRequestService.getAbsenceRequestSummariesForEmployee(developer.getId());
+
+        EmployeeProfile profile = employeeProfileService.getProfile(developer.getId(), 100).orElseThrow();
+
+        assertThat(profile.employee().getEmployeeId()).isEqualTo("EMP004");
+        assertThat(profile.feedbackReceived().items()).isEqualTo(received);
+        assertThat(profile.feedbackGiven().items()).isEqualTo(given);
+        assertThat(profile.absenceRequests()).isEqualTo(absences);
+        assertThat(profile.moreAbsenceRequests()).isFalse();
+        assertThat(objectMapper.writeValueAsString(profile)).contains("\"feedbackReceived\"");
+
+        assertThat(received).hasSizeGreaterThan(1);
+        EmployeeProfile capped = employeeProfileService.getProfile(developer.getId(), 1).orElseThrow();
+        assertThat(capped.feedbackReceived().items()).containsExactly(received.get(0));
+        assertThat(capped.feedbackReceived().nextCursor()).isEqualTo(received.get(0).id());
+        assertThat(capped.absenceRequests()).hasSizeLessThanOrEqualTo(1);
+        assertThat(capped.moreAbsenceRequests()).isEqualTo(absences.size() > 1);
+    }
+
+    @Test
+    void unknownEmployeeHasNoProfile() {
+        assertThat(employeeProfileService.getProfile(Long.MAX_VALUE, 20)).isEmpty();
+    }
+}
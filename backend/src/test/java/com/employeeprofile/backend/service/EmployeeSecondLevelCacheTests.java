@@ -0,0 +1,102 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.config.CacheConfig;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.employeeprofile.backend.service.EmployeeBulkService.Format;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Employee entity and query caching: repeated reads are served from the regions, and
+// writes through EmployeeService or the bulk import are visible to the next read
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeSecondLevelCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeBulkService employeeBulkService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void removeImportedEmployees() {
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id LIKE 'L2C%'");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAll();
+    }
+
+    @Test
+    void employeeReadsHitTheEntityRegionAndSeeUpdates() {
+        Long id = employeeRepository.findByEmployeeId("EMP006").orElseThrow().getId();
+
+        employeeRepository.findById(id).orElseThrow();
+        employeeRepository.findById(id).orElseThrow();
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(CacheConfig.EMPLOYEE_REGION);
+        assertThat(region.getHitCount()).isGreaterThanOrEqualTo(2);
+
+        Employee changes = employeeRepository.findById(id).orElseThrow();
+        String bio = changes.getBio();
+        changes.setBio("Cached, then updated");
+        employeeService.updateEmployee(id, changes);
+        try {
+            long hits = region.getHitCount();
+            assertThat(employeeRepository.findById(id).orElseThrow().getBio()).isEqualTo("Cached, then updated");
+            assertThat(region.getHitCount()).isEqualTo(hits + 1);
+        } finally {
+            changes.setBio(bio);
+            employeeService.updateEmployee(id, changes);
+        }
+    }
+
+    @Test
+    void listQueriesComeFromTheQueryCacheUntilEmployeesChange() throws Exception {
+        List<Employee> all = employeeService.getAllEmployees();
+        List<Employee> engineering = employeeService.getEmployeesByDepartment("Engineering");
+        assertThat(engineering).isNotEmpty().allMatch(e -> e.getDepartment().equals("Engineering"));
+
+        employeeService.getAllEmployees();
+        employeeService.getEmployeesByDepartment("Engineering");
+        CacheRegionStatistics queries = statistics.getQueryRegionStatistics(CacheConfig.EMPLOYEE_QUERY_REGION);
+        assertThat(queries.getHitCount()).isEqualTo(2);
+
+        employeeBulkService.importEmployees(new ByteArrayInputStream("""
+                employeeId,firstName,lastName,email,position,department,hireDate
+                L2C001,Rita,Hahn,rita.hahn@company.com,Engineer,Engineering,2024-05-01
+                """.getBytes(StandardCharsets.UTF_8)), Format.CSV);
+
+        assertThat(employeeService.getAllEmployees()).hasSize(all.size() + 1);
+        assertThat(employeeService.getEmployeesByDepartment("Engineering")).hasSize(engineering.size() + 1);
+    }
+}
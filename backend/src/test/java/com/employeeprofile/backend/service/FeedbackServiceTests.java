@@ -0,0 +1,181 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.dto.FeedbackFeedFilter;
+import com.employeeprofile.backend.dto.FeedbackModeration;
+import com.employeeprofile.backend.dto.FeedbackPage;
+import com.employeeprofile.backend.dto.FeedbackSearchHit;
+import com.employeeprofile.backend.dto.FeedbackSearchPage;
+import com.employeeprofile.backend.dto.FeedbackSummary;
+import com.employeeprofile.backend.entity.Employee;
+import com.employeeprofile.backend.entity.Feedback;
+import com.employeeprofile.backend.entity.FeedbackStatus;
+import com.employeeprofile.backend.entity.FeedbackType;
+import com.employeeprofile.backend.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Feedback lists must be served by a single SQL statement, however many rows they hold
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class FeedbackServiceTests {
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void feedbackSummariesUseOneStatement() throws Exception {
+        List<FeedbackSummary> feedback = feedbackService.getAllFeedbackSummaries();
+        objectMapper.writeValueAsString(feedback);
+
+        assertThat(feedback).hasSizeGreaterThan(1);
+        assertThat(feedback).allSatisfy(summary -> {
+            assertThat(summary.employee().firstName()).isNotBlank();
+            assertThat(summary.feedbackGiver().firstName()).isNotBlank();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void feedbackEntitiesFetchBothEmployeesInOneStatement() throws Exception {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        statistics.clear();
+
+        List<Feedback> received = feedbackService.getAllFeedbackForEmployee(developer);
+        // Serializing outside any transaction fails if an employee is still a lazy proxy
+        String json = objectMapper.writeValueAsString(received);
+
+        assertThat(received).hasSizeGreaterThan(1);
+        assertThat(json).contains("feedbackGiverName");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void moderatedFeedbackLeavesDefaultListsInOneUpdate() {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        Employee manager = employeeRepository.findByEmployeeId("EMP001").orElseThrow();
+        Feedback first = newFeedback(developer, manager, "Moderation test one");
+        Feedback second = newFeedback(developer, manager, "Moderation test two");
+        statistics.clear();
+
+        FeedbackModeration.Result hidden = feedbackService.moderate(new FeedbackModeration(
+                List.of(first.getId(), second.getId(), second.getId()), FeedbackStatus.HIDDEN));
+
+        assertThat(hidden).isEqualTo(new FeedbackModeration.Result(FeedbackStatus.HIDDEN, 2, 2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(feedbackService.getFeedbackSummariesForEmployee(developer.getId()))
+                .extracting(FeedbackSummary::id)
+                .doesNotContain(first.getId(), second.getId());
+        assertThat(feedbackService.getFeedbackSummariesByStatus(FeedbackStatus.HIDDEN))
+                .extracting(FeedbackSummary::id)
+                .contains(first.getId(), second.getId());
+
+        // Flagged feedback stays listed; feedback already in the target status is not counted
+        assertThat(feedbackService.moderate(new FeedbackModeration(List.of(first.getId()), FeedbackStatus.FLAGGED)).updated())
+                .isEqualTo(1);
+        assertThat(feedbackService.moderate(new FeedbackModeration(List.of(first.getId()), FeedbackStatus.FLAGGED)).updated())
+                .isZero();
+        assertThat(feedbackService.getAllFeedbackSummaries())
+                .extracting(FeedbackSummary::id)
+                .contains(first.getId())
+                .doesNotContain(second.getId());
+
+        feedbackService.moderate(new FeedbackModeration(List.of(first.getId()), FeedbackStatus.ARCHIVED));
+    }
+
+    @Test
+    void feedPagesThroughFilteredFeedbackNewestFirst() {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        Employee giver = employeeRepository.findByEmployeeId("EMP002").orElseThrow();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(newFeedback(developer, giver, "Feed test " + i).getId());
+        }
+        FeedbackFeedFilter filter = new FeedbackFeedFilter(developer.getId(), giver.getId(), FeedbackType.CONSTRUCTIVE, false);
+        statistics.clear();
+
+        FeedbackPage first = feedbackService.getFeedbackFeed(filter, null, 2);
+        FeedbackPage second = feedbackService.getFeedbackFeed(filter, first.nextCursor(), 2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(first.items()).extracting(FeedbackSummary::id).containsExactly(created.get(4), created.get(3));
+        assertThat(first.nextCursor()).isEqualTo(created.get(3));
+        assertThat(second.items()).extracting(FeedbackSummary::id).containsExactly(created.get(2), created.get(1));
+        assertThat(feedbackService.getFeedbackFeed(FeedbackFeedFilter.NONE, null, 1).items())
+                .extracting(FeedbackSummary::id).containsExactly(created.get(4));
+        assertThat(feedbackService.getFeedbackFeed(
+                new FeedbackFeedFilter(developer.getId(), null, null, true), null, 100).items())
+                .allSatisfy(summary -> assertThat(summary.isAiEnhanced()).isTrue());
+
+        feedbackService.moderate(new FeedbackModeration(created, FeedbackStatus.ARCHIVED));
+    }
+
+    @Test
+    void searchRanksHighlightsAndHonoursModeration() {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        Employee manager = employeeRepository.findByEmployeeId("EMP001").orElseThrow();
+        Feedback strong = newFeedback(developer, manager, "Zebrafish pipeline refactor, zebrafish tooling too");
+        Feedback weak = newFeedback(developer, manager, "Helped with the zebrafish migration and many other things");
+        feedbackService.applyAiEnhancements(Map.of(weak.getId(), "Drove the <zebrafish> migration"));
+
+        FeedbackSearchPage first = feedbackService.searchFeedback("Zebrafish", 0, 1);
+        assertThat(first.items()).extracting(hit -> hit.feedback().id()).containsExactly(strong.getId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.items().get(0).contentHighlight()).contains("<mark>Zebrafish</mark> pipeline");
+
+        FeedbackSearchHit second = feedbackService.searchFeedback("zebrafish", 1, 1).items().get(0);
+        assertThat(second.feedback().id()).isEqualTo(weak.getId());
+        assertThat(second.aiEnhancedContentHighlight()).isEqualTo("Drove the &lt;<mark>zebrafish</mark>&gt; migration");
+
+        feedbackService.moderate(new FeedbackModeration(List.of(strong.getId(), weak.getId()), FeedbackStatus.ARCHIVED));
+        assertThat(feedbackService.searchFeedback("zebrafish", 0, 20).items()).isEmpty();
+    }
+
+    @Test
+    void createAcceptsEmployeesGivenOnlyById() throws Exception {
+        Employee developer = employeeRepository.findByEmployeeId("EMP004").orElseThrow();
+        Employee manager = employeeRepository.findByEmployeeId("EMP001").orElseThrow();
+        Feedback feedback = objectMapper.readValue(String.format("{\"employee\":{\"id\":%d},\"feedbackGiver\":{\"id\":%d}," +
+                "\"content\":\"Solid sprint\",\"feedbackType\":\"POSITIVE\"}", developer.getId(), manager.getId()), Feedback.class);
+
+        Feedback created = feedbackService.createFeedback(feedback);
+
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getFeedbackGiver().getEmployeeId()).isEqualTo("EMP001");
+    }
+
+    private Feedback newFeedback(Employee employee, Employee giver, String content) {
+        Feedback feedback = new Feedback(employee, content, FeedbackType.CONSTRUCTIVE);
+        feedback.setFeedbackGiver(giver);
+        return feedbackService.createFeedback(feedback);
+    }
+}
@@ -0,0 +1,111 @@
+package com.employeeprofile.backend.service;
+
+import com.employeeprofile.backend.dto.SyntheticDataResult;
+import com.employeeprofile.backend.dto.SyntheticDataSpec;
+import com.employeeprofile.backend.search.EmployeeNameSearch;
+import com.employeeprofile.backend.search.FeedbackTextSearch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Synthetic data is reproducible, skewed, consistent with its dates and searchable
+@SpringBootTest
+@ActiveProfiles("test")
+class SyntheticDataServiceTests {
+
+    private static final SyntheticDataSpec SPEC = new SyntheticDataSpec(200, 2000, 500, 7);
+
+    private static final String SYNTHETIC_IDS = "SELECT id FROM employees WHERE employee_id LIKE 'SYN%'";
+
+    // Receiver employee id and content of every synthetic feedback, in insertion order
+    private static final String FEEDBACK_FINGERPRINT = "SELECT e.employee_id || ':' || f.content FROM feedback f " +
+            "JOIN employees e ON e.id = f.employee_id WHERE e.employee_id LIKE 'SYN%' ORDER BY f.id";
+
+    @Autowired
+    private SyntheticDataService syntheticDataService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private EmployeeNameSearch employeeNameSearch;
+
+    @Autowired
+    private FeedbackTextSearch feedbackTextSearch;
+
+    @Autowired
+    private AbsenceAggregateService absenceAggregateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void removeSyntheticData() {
+        jdbcTemplate.update("DELETE FROM absence_requests WHERE employee_id IN (" + SYNTHETIC_IDS + ")");
+        jdbcTemplate.update("DELETE FROM feedback WHERE employee_id IN (" + SYNTHETIC_IDS + ") " +
+                "OR feedback_giver_id IN (" + SYNTHETIC_IDS + ")");
+        jdbcTemplate.update("DELETE FROM employees WHERE employee_id LIKE 'SYN%'");
+        employeeNameSearch.rebuild();
+        feedbackTextSearch.rebuild();
+        absenceAggregateService.rebuild();
+    }
+
+    @Test
+    void generatesTheRequestedRowsOnce() {
+        SyntheticDataResult result = syntheticDataService.generate(SPEC);
+
+        assertThat(result.employees()).isEqualTo(200);
+        assertThat(count(SYNTHETIC_IDS)).isEqualTo(200);
+        assertThat(count("SELECT id FROM feedback WHERE employee_id IN (" + SYNTHETIC_IDS + ")")).isEqualTo(2000);
+        assertThat(count("SELECT id FROM absence_requests WHERE employee_id IN (" + SYNTHETIC_IDS + ")")).isEqualTo(500);
+        assertThat(count("SELECT id FROM feedback WHERE employee_id = feedback_giver_id")).isZero();
+
+        // A second run with data present writes nothing
+        assertThat(syntheticDataService.generate(SPEC).employees()).isZero();
+        assertThat(count(SYNTHETIC_IDS)).isEqualTo(200);
+    }
+
+    @Test
+    void sameSeedProducesTheSameData() {
+        syntheticDataService.generate(SPEC);
+        List<String> first = jdbcTemplate.queryForList(FEEDBACK_FINGERPRINT, String.class);
+        removeSyntheticData();
+
+        syntheticDataService.generate(SPEC);
+        assertThat(jdbcTemplate.queryForList(FEEDBACK_FINGERPRINT, String.class)).isEqualTo(first);
+    }
+
+    @Test
+    void dataIsSkewedAndConsistent() {
+        syntheticDataService.generate(SPEC);
+
+        // The most reviewed employee gets far more feedback than the typical one
+        List<Long> perEmployee = jdbcTemplate.queryForList("SELECT COUNT(*) FROM feedback WHERE employee_id IN (" +
+                SYNTHETIC_IDS + ") GROUP BY employee_id ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(perEmployee.get(0)).isGreaterThan(10 * perEmployee.get(perEmployee.size() / 2));
+
+        // Past absences are no longer pending, future ones have not started
+        assertThat(count("SELECT id FROM absence_requests WHERE end_date < CURRENT_DATE " +
+                "AND status IN ('PENDING', 'APPROVED', 'IN_PROGRESS') AND employee_id IN (" + SYNTHETIC_IDS + ")")).isZero();
+        assertThat(count("SELECT id FROM absence_requests WHERE start_date > CURRENT_DATE " +
+                "AND status IN ('IN_PROGRESS', 'COMPLETED') AND employee_id IN (" + SYNTHETIC_IDS + ")")).isZero();
+
+        // Both search indexes were rebuilt with the new rows
+        assertThat(employeeService.searchByName("müller", 5)).isNotEmpty();
+        assertThat(feedbackService.searchFeedback("migration", 0, 10).items()).isNotEmpty();
+    }
+
+    private long count(String query) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + query + ") AS rows", Long.class);
+    }
+}
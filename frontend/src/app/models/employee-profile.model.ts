@@ -0,0 +1,18 @@
+import { Employee } from './employee.model';
+import { Feedback } from './feedback.model';
+import { AbsenceRequest } from './absence-request.model';
+
+// One page of feedback, newest first; nextCursor is passed as "before" to /api/feedback for more
+export interface FeedbackPage {
+  items: Feedback[];
+  nextCursor: number | null;
+}
+
+// Response of /api/employees/{id}/profile: the whole profile page in one request
+export interface EmployeeProfile {
+  employee: Employee;
+  feedbackReceived: FeedbackPage;
+  feedbackGiven: FeedbackPage;
+  absenceRequests: AbsenceRequest[];
+  moreAbsenceRequests: boolean;
+}
@@ -12,6 +12,9 @@ export interface Feedback {
   content: string;
   feedbackType: FeedbackType;
   
+  // Moderation state; the regular lists only return ACTIVE, FLAGGED and UNDER_REVIEW
+  status?: FeedbackStatus;
+  
   // AI Enhanced content
   aiEnhancedContent?: string;
   isAiEnhanced: boolean;
@@ -27,3 +30,11 @@ export enum FeedbackType {
   GOAL_SETTING = 'GOAL_SETTING',
   DEVELOPMENT_FEEDBACK = 'DEVELOPMENT_FEEDBACK'
 }
+
+export enum FeedbackStatus {
+  ACTIVE = 'ACTIVE',
+  ARCHIVED = 'ARCHIVED',
+  HIDDEN = 'HIDDEN',
+  FLAGGED = 'FLAGGED',
+  UNDER_REVIEW = 'UNDER_REVIEW'
+}
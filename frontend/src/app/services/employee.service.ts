@@ -4,6 +4,7 @@ import { Observable } from 'rxjs';
 import { Employee } from '../models/employee.model';
 import { Feedback } from '../models/feedback.model';
 import { AbsenceRequest } from '../models/absence-request.model';
+import { EmployeeProfile } from '../models/employee-profile.model';
 
 @Injectable({
   providedIn: 'root'
@@ -22,6 +23,11 @@ export class EmployeeService {
     return this.http.put<Employee>(`${this.apiUrl}/employees/${id}`, employee);
   }
 
+  // Employee, latest feedback received/given and latest absences in one round trip
+  getEmployeeProfile(id: number, limit = 20): Observable<EmployeeProfile> {
+    return this.http.get<EmployeeProfile>(`${this.apiUrl}/employees/${id}/profile?limit=${limit}`);
+  }
+
   searchEmployeesByName(name: string): Observable<Employee[]> {
     return this.http.get<Employee[]>(`${this.apiUrl}/employees/search?name=${encodeURIComponent(name)}`);
   }